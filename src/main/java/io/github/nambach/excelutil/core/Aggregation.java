@@ -0,0 +1,59 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Grouping keys and summarized fields of an aggregation, see
+ * {@link ReaderConfig#aggregate(java.io.InputStream, Aggregation)}.
+ * Fields are the mapped fields of the reader config.
+ * <pre>{@code
+ * Aggregation byAccount = Aggregation.groupBy("account").summarize("amount");
+ * AggregationResult totals = readerConfig.streaming(true).aggregate(stream, byAccount);
+ * double total = totals.getGroup("ACC-1").getSum("amount");
+ * }</pre>
+ */
+@Getter(AccessLevel.PACKAGE)
+public class Aggregation {
+    private final List<String> keyFields;
+    private final List<String> valueFields = new ArrayList<>();
+
+    private Aggregation(List<String> keyFields) {
+        this.keyFields = keyFields;
+    }
+
+    /**
+     * Group rows by the values of some fields. Without any field, all rows form a single group.
+     *
+     * @param fields field names; with several fields, the key of a group is the list of their values
+     * @return new aggregation
+     */
+    public static Aggregation groupBy(String... fields) {
+        for (String field : fields) {
+            Objects.requireNonNull(field);
+        }
+        return new Aggregation(Collections.unmodifiableList(Arrays.asList(fields.clone())));
+    }
+
+    /**
+     * Compute count, sum, min and max of numeric fields in each group.
+     * Values are converted like {@link ReaderCell#readDouble()}; cells without value are not counted.
+     *
+     * @param fields field names
+     * @return current aggregation
+     */
+    public Aggregation summarize(String... fields) {
+        for (String field : fields) {
+            if (!valueFields.contains(Objects.requireNonNull(field))) {
+                valueFields.add(field);
+            }
+        }
+        return this;
+    }
+}
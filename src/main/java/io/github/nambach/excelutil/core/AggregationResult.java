@@ -0,0 +1,235 @@
+package io.github.nambach.excelutil.core;
+
+import io.github.nambach.excelutil.util.ListUtil;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Groups computed by {@link ReaderConfig#aggregate(java.io.InputStream, Aggregation)}.
+ * Only one entry per group is kept, so memory does not depend on the number of rows.
+ */
+public class AggregationResult {
+    private final List<String> keyFields;
+    private final List<String> valueFields;
+    private final Map<Object, Group> groups = new LinkedHashMap<>();
+    @Getter
+    private final List<RowError> errors = new ArrayList<>();
+    @Getter
+    private boolean errorLimitReached;
+    /**
+     * See {@link Result#getSampledOutRows()}.
+     */
+    @Getter
+    private int sampledOutRows;
+
+    // values of the current row
+    private final Object[] rowKeys;
+    private final double[] rowValues;
+
+    AggregationResult(Aggregation aggregation) {
+        this.keyFields = aggregation.getKeyFields();
+        this.valueFields = new ArrayList<>(aggregation.getValueFields());
+        this.rowKeys = new Object[keyFields.size()];
+        this.rowValues = new double[valueFields.size()];
+    }
+
+    /**
+     * @return number of groups
+     */
+    public int size() {
+        return groups.size();
+    }
+
+    /**
+     * @return groups in the order they are first found
+     */
+    public Collection<Group> getGroups() {
+        return Collections.unmodifiableCollection(groups.values());
+    }
+
+    /**
+     * @param key value of the grouping field, or list of values if grouped by several fields
+     * @return group of the key, or null if no row has this key
+     */
+    public Group getGroup(Object key) {
+        return groups.get(key);
+    }
+
+    public boolean hasErrors() {
+        return ListUtil.hasMember(errors);
+    }
+
+    public boolean noError() {
+        return ListUtil.isNullOrEmpty(errors);
+    }
+
+    /**
+     * @return where values of a mapped field go, or null if the field is not aggregated
+     */
+    Slot slot(String fieldName, Class<?> fieldType) {
+        int keyIndex = keyFields.indexOf(fieldName);
+        int valueIndex = valueFields.indexOf(fieldName);
+        if (keyIndex < 0 && valueIndex < 0) {
+            return null;
+        }
+        Function<ReaderCell, Object> reader = fieldType != null ? Handler.getFieldReader(fieldType) : null;
+        return new Slot(keyIndex, valueIndex, reader != null ? reader : ReaderCell::readString);
+    }
+
+    /**
+     * Start buffering the values of a row. Groups are only updated by {@link #endRow()},
+     * so a row that is not finished is never partly counted.
+     */
+    void startRow() {
+        Arrays.fill(rowKeys, null);
+        Arrays.fill(rowValues, Double.NaN);
+    }
+
+    /**
+     * Drop the buffered values of a row that is not finished.
+     */
+    void discardRow() {
+        startRow();
+    }
+
+    /**
+     * Read the value of a cell into the current row; if a field is mapped
+     * from several columns, only the first value counts.
+     */
+    void read(Slot slot, ReaderCell cell) {
+        if (slot.keyIndex >= 0 && rowKeys[slot.keyIndex] == null) {
+            rowKeys[slot.keyIndex] = slot.keyReader.apply(cell);
+        }
+        if (slot.valueIndex >= 0 && Double.isNaN(rowValues[slot.valueIndex])) {
+            rowValues[slot.valueIndex] = cell.readDoubleValue();
+        }
+    }
+
+    /**
+     * Add the current row to its group.
+     */
+    void endRow() {
+        Object key = rowKeys.length == 1 ? rowKeys[0] : Collections.unmodifiableList(Arrays.asList(rowKeys.clone()));
+        Group group = groups.get(key);
+        if (group == null) {
+            group = new Group(key, valueFields);
+            groups.put(key, group);
+        }
+        group.add(rowValues);
+    }
+
+    void setErrors(Result<?> result) {
+        errors.addAll(result.getErrors());
+        errorLimitReached = result.isErrorLimitReached();
+        sampledOutRows = result.getSampledOutRows();
+    }
+
+    static class Slot {
+        private final int keyIndex;
+        private final int valueIndex;
+        private final Function<ReaderCell, Object> keyReader;
+
+        private Slot(int keyIndex, int valueIndex, Function<ReaderCell, Object> keyReader) {
+            this.keyIndex = keyIndex;
+            this.valueIndex = valueIndex;
+            this.keyReader = keyReader;
+        }
+    }
+
+    /**
+     * Rows sharing the same key, with count, sum, min and max of each summarized field.
+     */
+    public static class Group {
+        @Getter
+        private final Object key;
+        private final List<String> valueFields;
+        private long count;
+        private final long[] counts;
+        private final double[] sums;
+        private final double[] mins;
+        private final double[] maxs;
+
+        private Group(Object key, List<String> valueFields) {
+            this.key = key;
+            this.valueFields = valueFields;
+            int size = valueFields.size();
+            this.counts = new long[size];
+            this.sums = new double[size];
+            this.mins = new double[size];
+            this.maxs = new double[size];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+        }
+
+        private void add(double[] values) {
+            count++;
+            for (int i = 0; i < values.length; i++) {
+                double value = values[i];
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                counts[i]++;
+                sums[i] += value;
+                mins[i] = Math.min(mins[i], value);
+                maxs[i] = Math.max(maxs[i], value);
+            }
+        }
+
+        private int indexOf(String field) {
+            int index = valueFields.indexOf(field);
+            if (index < 0) {
+                throw new IllegalArgumentException("Field '" + field + "' is not summarized.");
+            }
+            return index;
+        }
+
+        /**
+         * @return number of rows in the group
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @param field summarized field
+         * @return number of rows having a value for the field
+         */
+        public long getCount(String field) {
+            return counts[indexOf(field)];
+        }
+
+        /**
+         * @param field summarized field
+         * @return sum of the field, 0 if there is no value
+         */
+        public double getSum(String field) {
+            return sums[indexOf(field)];
+        }
+
+        /**
+         * @param field summarized field
+         * @return minimum of the field, or null if there is no value
+         */
+        public Double getMin(String field) {
+            int i = indexOf(field);
+            return counts[i] > 0 ? mins[i] : null;
+        }
+
+        /**
+         * @param field summarized field
+         * @return maximum of the field, or null if there is no value
+         */
+        public Double getMax(String field) {
+            int i = indexOf(field);
+            return counts[i] > 0 ? maxs[i] : null;
+        }
+    }
+}
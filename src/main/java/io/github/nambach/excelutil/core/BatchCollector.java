@@ -0,0 +1,109 @@
+package io.github.nambach.excelutil.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Group mapped rows into fixed-size batches and hand them off as soon as they are full.
+ * Each batch carries the errors found since the previous batch.
+ * <p>
+ * When an {@link Executor} is given, a batch is consumed asynchronously while
+ * the next one is being read. At most one batch is in flight at any time.
+ *
+ * @param <T> DTO
+ */
+class BatchCollector<T> implements Consumer<Raw<T>> {
+    private final Class<T> tClass;
+    private final boolean keepRawData;
+    private final Result<T> errors;
+    private final int batchSize;
+    private final Consumer<Result<T>> consumer;
+    private final Executor executor;
+    private final ReaderSession<T> session;
+
+    private Result<T> batch;
+    private int lastRowIndex = -1;
+    private CompletableFuture<Void> inFlight;
+
+    BatchCollector(ReaderSession<T> session, int batchSize, Consumer<Result<T>> consumer, Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive; '" + batchSize + "' found instead.");
+        }
+        this.tClass = session.getConfig().getTClass();
+        this.keepRawData = session.getConfig().isKeepRawData();
+        this.errors = session.getResult();
+        this.batchSize = batchSize;
+        this.consumer = consumer;
+        this.executor = executor;
+        this.session = session;
+        this.batch = newBatch();
+        // reported once each batch is consumed
+        session.disableCheckpoints();
+    }
+
+    private Result<T> newBatch() {
+        Result<T> result = new Result<>(tClass);
+        result.keepRawData(keepRawData);
+        return result;
+    }
+
+    @Override
+    public void accept(Raw<T> raw) {
+        batch.addRaw(raw);
+        lastRowIndex = raw.getRowIndex();
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Hand off the current batch, including errors of rows that produced no item.
+     */
+    void flush() {
+        // errors are moved out of the session so that they are not retained
+        batch.addErrors(errors);
+        errors.clearErrors();
+
+        if (batch.isEmpty() && batch.noError()) {
+            return;
+        }
+
+        Result<T> current = batch;
+        batch = newBatch();
+        Checkpoint checkpoint = lastRowIndex >= 0 ? new Checkpoint(session.getSheetIndex(), lastRowIndex) : null;
+        if (executor == null) {
+            consume(current, checkpoint);
+        } else {
+            await();
+            inFlight = CompletableFuture.runAsync(() -> consume(current, checkpoint), executor);
+        }
+    }
+
+    private void consume(Result<T> current, Checkpoint checkpoint) {
+        consumer.accept(current);
+        if (checkpoint != null) {
+            session.getConfig().handleCheckpoint(checkpoint);
+        }
+    }
+
+    /**
+     * Wait for the batch in flight, rethrowing its failure.
+     */
+    void await() {
+        if (inFlight == null) {
+            return;
+        }
+        try {
+            inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            inFlight = null;
+        }
+    }
+}
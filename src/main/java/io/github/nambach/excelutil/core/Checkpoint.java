@@ -0,0 +1,26 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Position of the last row handed out by a reading, so that a failed reading
+ * can be resumed right after it. See {@link ReaderConfig#resumeFrom(Checkpoint)}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Checkpoint {
+    private final int sheetIndex;
+    private final int rowIndex;
+
+    /**
+     * @param sheetIndex index of sheet
+     * @param rowIndex   index of the last row already read (from 0)
+     */
+    public Checkpoint(int sheetIndex, int rowIndex) {
+        this.sheetIndex = sheetIndex;
+        this.rowIndex = rowIndex;
+    }
+}
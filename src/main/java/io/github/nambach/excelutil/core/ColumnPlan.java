@@ -0,0 +1,80 @@
+package io.github.nambach.excelutil.core;
+
+import io.github.nambach.excelutil.validator.Field;
+import io.github.nambach.excelutil.validator.Validator;
+import io.github.nambach.excelutil.validator.builtin.TypeValidator;
+
+import java.util.List;
+
+/**
+ * Handlers of a sheet resolved per column, so that reading a cell needs no lookup.
+ * Built once the title row is known and never modified afterward.
+ *
+ * @param <T> DTO
+ */
+class ColumnPlan<T> {
+    private final Column<T>[] columns;
+    private final Column<T> tail;
+
+    private ColumnPlan(Column<T>[] columns, Column<T> tail) {
+        this.columns = columns;
+        this.tail = tail;
+    }
+
+    /**
+     * @param colIndex column index
+     * @return handling plan of the column, never null
+     */
+    Column<T> get(int colIndex) {
+        return colIndex < columns.length ? columns[colIndex] : tail;
+    }
+
+    /**
+     * @param colIndex column index
+     * @return whether the column has handlers
+     */
+    boolean isMapped(int colIndex) {
+        return !get(colIndex).isEmpty();
+    }
+
+    /**
+     * Create a plan.
+     *
+     * @param columns plan of each column from index 0
+     * @param tail    plan shared by every column after the last one
+     * @param <T>     DTO
+     * @return plan
+     */
+    static <T> ColumnPlan<T> of(List<Column<T>> columns, Column<T> tail) {
+        @SuppressWarnings("unchecked")
+        Column<T>[] array = (Column<T>[]) columns.toArray(new Column<?>[0]);
+        return new ColumnPlan<>(array, tail);
+    }
+
+    static class Column<T> {
+        final String title;
+        final Handler<T>[] handlers;
+        // validator of the same field declared on the object validator, if any
+        final TypeValidator[] fieldValidators;
+
+        @SuppressWarnings("unchecked")
+        Column(String title, List<Handler<T>> handlers, Validator<T> validator) {
+            this.title = title;
+            this.handlers = (Handler<T>[]) handlers.toArray(new Handler<?>[0]);
+            this.fieldValidators = new TypeValidator[this.handlers.length];
+            if (validator == null) {
+                return;
+            }
+            for (int i = 0; i < this.handlers.length; i++) {
+                Field<T> field = validator.getField(this.handlers[i].getFieldName());
+                if (field != null) {
+                    fieldValidators[i] = field.getTypeValidator();
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return handlers.length == 0;
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package io.github.nambach.excelutil.core;
+
+import io.github.nambach.excelutil.util.ListUtil;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Data read column by column instead of row by row. Each mapped field is stored
+ * in a column of primitive values, so that numeric data can be scanned without boxing.
+ * Strings are dictionary-encoded, since the same values usually repeat a lot.
+ */
+public class ColumnarResult {
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    @Getter
+    private final List<RowError> errors = new ArrayList<>();
+    @Getter
+    private boolean errorLimitReached;
+    /**
+     * See {@link Result#getSampledOutRows()}.
+     */
+    @Getter
+    private int sampledOutRows;
+    private int size;
+
+    ColumnarResult() {
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean hasErrors() {
+        return ListUtil.hasMember(errors) || sampledOutRows > 0;
+    }
+
+    public boolean noError() {
+        return !hasErrors();
+    }
+
+    /**
+     * @return columns in the order they are found in the sheet
+     */
+    public Collection<Column> getColumns() {
+        return Collections.unmodifiableCollection(columns.values());
+    }
+
+    /**
+     * @param fieldName mapped field name
+     * @return column of the field, or null if the field was not found in the sheet
+     */
+    public Column getColumn(String fieldName) {
+        return columns.get(fieldName);
+    }
+
+    public LongColumn getLongColumn(String fieldName) {
+        return getColumn(fieldName, LongColumn.class);
+    }
+
+    public DoubleColumn getDoubleColumn(String fieldName) {
+        return getColumn(fieldName, DoubleColumn.class);
+    }
+
+    public BooleanColumn getBooleanColumn(String fieldName) {
+        return getColumn(fieldName, BooleanColumn.class);
+    }
+
+    public StringColumn getStringColumn(String fieldName) {
+        return getColumn(fieldName, StringColumn.class);
+    }
+
+    private <C extends Column> C getColumn(String fieldName, Class<C> type) {
+        Column column = columns.get(fieldName);
+        if (column != null && !type.isInstance(column)) {
+            throw new IllegalArgumentException("Column '" + fieldName + "' is a " + column.getClass().getSimpleName() +
+                                               ", not a " + type.getSimpleName());
+        }
+        return type.cast(column);
+    }
+
+    /**
+     * Find or create the column of a field, based on the field type.
+     */
+    Column column(String fieldName, Class<?> type) {
+        return columns.computeIfAbsent(fieldName, name -> {
+            Column column;
+            if (type == long.class || type == Long.class || type == int.class || type == Integer.class) {
+                column = new LongColumn(name);
+            } else if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+                column = new DoubleColumn(name);
+            } else if (type == boolean.class || type == Boolean.class) {
+                column = new BooleanColumn(name);
+            } else if (type == String.class) {
+                column = new StringColumn(name);
+            } else {
+                column = new ObjectColumn(name, Handler.getFieldReader(type));
+            }
+            // rows read before the column was found
+            column.fillNull(size);
+            return column;
+        });
+    }
+
+    /**
+     * Finish a row: columns without value at this row receive null.
+     */
+    void endRow() {
+        size++;
+        for (Column column : columns.values()) {
+            column.fillNull(size);
+        }
+    }
+
+    /**
+     * Drop the values read for a row that is not finished, so that columns stay aligned.
+     */
+    void discardRow() {
+        for (Column column : columns.values()) {
+            column.truncate(size);
+        }
+    }
+
+    void setErrors(Result<?> result) {
+        errors.addAll(result.getErrors());
+        errorLimitReached = result.isErrorLimitReached();
+        sampledOutRows = result.getSampledOutRows();
+    }
+
+    /**
+     * A column of values with a null bitmap.
+     */
+    public abstract static class Column {
+        @Getter
+        private final String fieldName;
+        private long[] nulls = new long[1];
+        int size;
+
+        Column(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isNull(int row) {
+            checkIndex(row);
+            return (nulls[row >>> 6] & (1L << row)) != 0;
+        }
+
+        /**
+         * @param row row position (from 0)
+         * @return boxed value, or null
+         */
+        public abstract Object get(int row);
+
+        /**
+         * Append the value of a cell, only once per row.
+         */
+        abstract void read(ReaderCell cell);
+
+        abstract void grow(int capacity);
+
+        void checkIndex(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Row: " + row + ", size: " + size);
+            }
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > nulls.length << 6) {
+                nulls = Arrays.copyOf(nulls, Math.max(nulls.length << 1, (capacity >>> 6) + 1));
+            }
+            grow(capacity);
+        }
+
+        void fillNull(int rowCount) {
+            while (size < rowCount) {
+                appendNull();
+            }
+        }
+
+        void appendNull() {
+            ensureCapacity(size + 1);
+            nulls[size >>> 6] |= 1L << size;
+            size++;
+        }
+
+        void truncate(int rowCount) {
+            for (int row = rowCount; row < size; row++) {
+                nulls[row >>> 6] &= ~(1L << row);
+            }
+            size = Math.min(size, rowCount);
+        }
+    }
+
+    public static class LongColumn extends Column {
+        private long[] values = new long[16];
+
+        LongColumn(String fieldName) {
+            super(fieldName);
+        }
+
+        /**
+         * @param row row position (from 0)
+         * @return value, or 0 if null
+         */
+        public long getLong(int row) {
+            checkIndex(row);
+            return values[row];
+        }
+
+        @Override
+        public Long get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        void read(ReaderCell cell) {
+            double value = cell.readDoubleValue();
+            if (Double.isNaN(value)) {
+                appendNull();
+                return;
+            }
+            ensureCapacity(size + 1);
+            values[size++] = (long) value;
+        }
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length << 1, capacity));
+            }
+        }
+    }
+
+    public static class DoubleColumn extends Column {
+        private double[] values = new double[16];
+
+        DoubleColumn(String fieldName) {
+            super(fieldName);
+        }
+
+        /**
+         * @param row row position (from 0)
+         * @return value, or 0 if null
+         */
+        public double getDouble(int row) {
+            checkIndex(row);
+            return values[row];
+        }
+
+        @Override
+        public Double get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        void read(ReaderCell cell) {
+            double value = cell.readDoubleValue();
+            if (!Handler.hasValue(value, cell)) {
+                appendNull();
+                return;
+            }
+            ensureCapacity(size + 1);
+            values[size++] = value;
+        }
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length << 1, capacity));
+            }
+        }
+    }
+
+    public static class BooleanColumn extends Column {
+        private long[] values = new long[1];
+
+        BooleanColumn(String fieldName) {
+            super(fieldName);
+        }
+
+        /**
+         * @param row row position (from 0)
+         * @return value, or false if null
+         */
+        public boolean getBoolean(int row) {
+            checkIndex(row);
+            return (values[row >>> 6] & (1L << row)) != 0;
+        }
+
+        @Override
+        public Boolean get(int row) {
+            return isNull(row) ? null : getBoolean(row);
+        }
+
+        @Override
+        void read(ReaderCell cell) {
+            Boolean value = cell.readBoolean();
+            if (value == null) {
+                appendNull();
+                return;
+            }
+            ensureCapacity(size + 1);
+            if (value) {
+                values[size >>> 6] |= 1L << size;
+            }
+            size++;
+        }
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > values.length << 6) {
+                values = Arrays.copyOf(values, Math.max(values.length << 1, (capacity >>> 6) + 1));
+            }
+        }
+    }
+
+    /**
+     * Strings stored as codes of a dictionary, in the order the values are first found.
+     */
+    public static class StringColumn extends Column {
+        private int[] codes = new int[16];
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> lookup = new HashMap<>();
+
+        StringColumn(String fieldName) {
+            super(fieldName);
+        }
+
+        /**
+         * @param row row position (from 0)
+         * @return code of the value in {@link #getDictionary()}, or -1 if null
+         */
+        public int getCode(int row) {
+            checkIndex(row);
+            return codes[row];
+        }
+
+        /**
+         * @return distinct values of the column
+         */
+        public List<String> getDictionary() {
+            return Collections.unmodifiableList(dictionary);
+        }
+
+        @Override
+        public String get(int row) {
+            int code = getCode(row);
+            return code < 0 ? null : dictionary.get(code);
+        }
+
+        @Override
+        void read(ReaderCell cell) {
+            String value = cell.readString();
+            if (value == null) {
+                appendNull();
+                return;
+            }
+            Integer code = lookup.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                lookup.put(value, code);
+            }
+            ensureCapacity(size + 1);
+            codes[size++] = code;
+        }
+
+        @Override
+        void appendNull() {
+            ensureCapacity(size + 1);
+            codes[size] = -1;
+            super.appendNull();
+        }
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > codes.length) {
+                codes = Arrays.copyOf(codes, Math.max(codes.length << 1, capacity));
+            }
+        }
+    }
+
+    /**
+     * Values of other types, e.g. dates, kept as objects.
+     */
+    public static class ObjectColumn extends Column {
+        private final List<Object> values = new ArrayList<>();
+        private final Function<ReaderCell, Object> reader;
+
+        ObjectColumn(String fieldName, Function<ReaderCell, Object> reader) {
+            super(fieldName);
+            this.reader = reader;
+        }
+
+        @Override
+        public Object get(int row) {
+            checkIndex(row);
+            return values.get(row);
+        }
+
+        @Override
+        void read(ReaderCell cell) {
+            Object value = reader != null ? reader.apply(cell) : null;
+            if (value == null) {
+                appendNull();
+                return;
+            }
+            values.add(value);
+            size++;
+        }
+
+        @Override
+        void appendNull() {
+            values.add(null);
+            super.appendNull();
+        }
+
+        @Override
+        void truncate(int rowCount) {
+            while (values.size() > rowCount) {
+                values.remove(values.size() - 1);
+            }
+            super.truncate(rowCount);
+        }
+
+        @Override
+        void grow(int capacity) {
+        }
+    }
+}
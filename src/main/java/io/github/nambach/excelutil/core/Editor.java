@@ -18,7 +18,9 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,6 +39,8 @@ public class Editor implements BaseEditor, FreestyleWriter<Editor>, AutoCloseabl
     private final BaseWriter writer;
     private final BaseReader reader;
     private final PointerNavigation navigation = new PointerNavigation();
+    // opened from a file that must not be written back
+    private final boolean revertOnClose;
     private Sheet currentSheet;
     private Style tempStyle;
     private boolean isDebug;
@@ -49,12 +53,37 @@ public class Editor implements BaseEditor, FreestyleWriter<Editor>, AutoCloseabl
         this(getWorkbookFromStream(stream));
     }
 
+    /**
+     * Open a workbook from a file. Parts of the file are read on demand instead of
+     * being buffered into memory first. The file itself is never modified,
+     * changes are only kept in memory until exported.
+     *
+     * @param file excel file
+     */
+    public Editor(File file) {
+        this(getWorkbookFromFile(file), true);
+    }
+
+    /**
+     * Open a workbook from a file. See {@link #Editor(File)}.
+     *
+     * @param path excel file
+     */
+    public Editor(Path path) {
+        this(path.toFile());
+    }
+
     public Editor(Workbook workbook) {
+        this(workbook, false);
+    }
+
+    private Editor(Workbook workbook, boolean revertOnClose) {
         if (workbook == null) {
             workbook = new XSSFWorkbook();
         }
 
         this.workbook = workbook;
+        this.revertOnClose = revertOnClose;
         this.writer = new BaseWriter(workbook);
         this.reader = new BaseReader();
 
@@ -74,6 +103,12 @@ public class Editor implements BaseEditor, FreestyleWriter<Editor>, AutoCloseabl
         }
     }
 
+    @SneakyThrows
+    private static Workbook getWorkbookFromFile(File file) {
+        // opened writable so that the workbook can still be exported
+        return WorkbookFactory.create(file, null, false);
+    }
+
     /**
      * If there is no current sheet, it will create "Sheet1"
      *
@@ -89,6 +124,11 @@ public class Editor implements BaseEditor, FreestyleWriter<Editor>, AutoCloseabl
     @Override
     @SneakyThrows
     public void close() {
+        if (revertOnClose && workbook instanceof XSSFWorkbook) {
+            // closing would save changes back to the file
+            ((XSSFWorkbook) workbook).getPackage().revert();
+            return;
+        }
         this.workbook.close();
     }
 
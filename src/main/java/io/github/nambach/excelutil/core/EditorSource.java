@@ -0,0 +1,125 @@
+package io.github.nambach.excelutil.core;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Read sections from a workbook that was fully loaded by an {@link Editor}.
+ */
+class EditorSource implements WorkbookSource {
+    private final Editor editor;
+    private final BaseReader reader = new BaseReader();
+    private final LookupCache lookupCache = new LookupCache();
+    // set before sheets are read concurrently, their formulas are then read from cached results
+    private boolean formulasEvaluated;
+
+    EditorSource(Editor editor) {
+        this.editor = editor;
+    }
+
+    @Override
+    public int getTotalSheets() {
+        return editor.getTotalSheets();
+    }
+
+    @Override
+    public String getSheetName(int index) {
+        return editor.getPoiWorkbook().getSheetName(index);
+    }
+
+    @Override
+    public int getSheetIndex(String sheetName) {
+        return editor.getPoiWorkbook().getSheetIndex(sheetName);
+    }
+
+    @Override
+    public LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    @Override
+    public SheetRows openSheet(int index) {
+        // resolve the sheet without moving the editor cursor, so that sheets can be read concurrently
+        Workbook workbook = editor.getPoiWorkbook();
+        int total = workbook.getNumberOfSheets();
+        Sheet sheet = total == 0
+                      ? editor.goToSheet(index).getCurrentPoiSheet()
+                      : workbook.getSheetAt(Math.min(Math.max(index, 0), total - 1));
+        Iterator<Row> iterator = sheet.iterator();
+        return new SheetRows() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Row next() {
+                return iterator.next();
+            }
+
+            @Override
+            public List<CellRangeAddress> getMergedRegions() {
+                return sheet.getMergedRegions();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Cells of a loaded workbook are shared by all threads, and evaluating a formula writes its result
+     * into the cell. Lookup sheets are therefore indexed, and formulas of the sheets evaluated, on the
+     * calling thread; sheet tasks then only read cached results.
+     */
+    @Override
+    public void prepareConcurrentReading(List<Integer> sheetIndexes, ReaderConfig<?> config) {
+        config.getLookups().forEach(lookup -> lookup.load(this));
+        if (config.isUseCachedFormulaValues()) {
+            return;
+        }
+        Workbook workbook = editor.getPoiWorkbook();
+        FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+        for (int index : sheetIndexes) {
+            for (Row row : workbook.getSheetAt(index)) {
+                for (Cell cell : row) {
+                    if (cell.getCellType() == CellType.FORMULA) {
+                        evaluator.evaluateFormulaCell(cell);
+                    }
+                }
+            }
+        }
+        formulasEvaluated = true;
+    }
+
+    @Override
+    public SheetRows openSheet(int index, ReaderSession<?> session) {
+        if (formulasEvaluated) {
+            session.useCachedFormulaValues();
+        }
+        return WorkbookSource.super.openSheet(index, session);
+    }
+
+    @Override
+    public <T> Result<T> readSection(int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt) {
+        Sheet sheet = editor
+                .goToSheet(sheetIndex)
+                .goToCell(rowAt, colAt)
+                .getCurrentPoiSheet();
+        return reader.readSheet(sheet, config, rowAt, colAt, lookupCache);
+    }
+
+    @Override
+    public void close() {
+        editor.close();
+    }
+}
@@ -0,0 +1,519 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.apache.poi.hssf.model.InternalWorkbook;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.ExtendedFormatRecord;
+import org.apache.poi.hssf.record.FilePassRecord;
+import org.apache.poi.hssf.record.FormatRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MergeCellsRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.MulRKRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.RKRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.formula.FormulaRenderer;
+import org.apache.poi.ss.formula.WorkbookDependentFormula;
+import org.apache.poi.ss.formula.ptg.ExpPtg;
+import org.apache.poi.ss.formula.ptg.Ptg;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * Streaming reader for .xls files. Records of a sheet are pulled one at a time from the
+ * BIFF8 workbook stream; only the shared string table and number formats are kept in memory.
+ * Encrypted and pre-BIFF8 files are not supported.
+ */
+@Log4j2
+class HSSFStreamingReader extends StreamingReader {
+    private final POIFSFileSystem fs;
+    private final String entryName;
+    private final int stringCacheSize;
+    private final List<String> sheetNames = new ArrayList<>();
+    private final List<Integer> sheetOffsets = new ArrayList<>();
+    private final List<Short> formatIndexes = new ArrayList<>();
+    private final Map<Integer, String> formats = new HashMap<>();
+    // styles by XF index, only carrying number formats, since HSSF styles need the whole workbook
+    private final List<CellStyle> styles = new ArrayList<>();
+    private SSTRecord sst;
+    private boolean date1904;
+
+    private HSSFStreamingReader(POIFSFileSystem fs, String entryName, int stringCacheSize) {
+        this.fs = fs;
+        this.entryName = entryName;
+        this.stringCacheSize = stringCacheSize;
+    }
+
+    /**
+     * Read the workbook globals: sheets, shared strings and number formats.
+     *
+     * @param fs              file system of the workbook
+     * @param stringCacheSize maximum number of shared strings cached per sheet, or 0 for none
+     * @return a streaming reader, or null if the file cannot be streamed
+     */
+    @SneakyThrows
+    static HSSFStreamingReader open(POIFSFileSystem fs, int stringCacheSize) {
+        String entryName = findWorkbookEntry(fs.getRoot());
+        if (entryName == null) {
+            return null;
+        }
+        HSSFStreamingReader reader = new HSSFStreamingReader(fs, entryName, stringCacheSize);
+        try (InputStream stream = reader.openStream(0)) {
+            return reader.readGlobals(new RecordFactoryInputStream(stream, false)) ? reader : null;
+        }
+    }
+
+    private static String findWorkbookEntry(DirectoryNode root) {
+        for (String name : InternalWorkbook.WORKBOOK_DIR_ENTRY_NAMES) {
+            if (root.hasEntry(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return false if the workbook is encrypted
+     */
+    private boolean readGlobals(RecordFactoryInputStream records) {
+        Record record;
+        while ((record = records.nextRecord()) != null) {
+            if (record instanceof FilePassRecord) {
+                return false;
+            } else if (record instanceof BoundSheetRecord) {
+                BoundSheetRecord sheet = (BoundSheetRecord) record;
+                sheetNames.add(sheet.getSheetname());
+                sheetOffsets.add(sheet.getPositionOfBof());
+            } else if (record instanceof SSTRecord) {
+                sst = (SSTRecord) record;
+            } else if (record instanceof FormatRecord) {
+                FormatRecord format = (FormatRecord) record;
+                formats.put(format.getIndexCode(), format.getFormatString());
+            } else if (record instanceof ExtendedFormatRecord) {
+                formatIndexes.add(((ExtendedFormatRecord) record).getFormatIndex());
+            } else if (record instanceof DateWindow1904Record) {
+                date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+            } else if (record instanceof EOFRecord) {
+                break;
+            }
+        }
+        createStyles();
+        return true;
+    }
+
+    private void createStyles() {
+        StylesTable stylesTable = new StylesTable();
+        for (short formatIndex : formatIndexes) {
+            String format = formats.get((int) formatIndex);
+            XSSFCellStyle style = stylesTable.createCellStyle();
+            if (format != null) {
+                style.setDataFormat(stylesTable.putNumberFormat(format));
+            } else if (BuiltinFormats.getBuiltinFormat(formatIndex) != null) {
+                style.setDataFormat(formatIndex);
+            }
+            styles.add(style);
+        }
+    }
+
+    /**
+     * Open the workbook stream at a position. Reads are serialized, since a file system
+     * backed by a file channel cannot be read concurrently.
+     */
+    private InputStream openStream(int offset) throws IOException {
+        synchronized (fs) {
+            InputStream stream = fs.createDocumentInputStream(entryName);
+            long skipped = 0;
+            while (skipped < offset) {
+                long n = stream.skip(offset - skipped);
+                if (n <= 0) {
+                    throw new IOException("Sheet offset " + offset + " is out of the workbook stream.");
+                }
+                skipped += n;
+            }
+            return new BufferedInputStream(new LockedInputStream(stream, fs));
+        }
+    }
+
+    @Override
+    List<String> getSheetNames() {
+        return sheetNames;
+    }
+
+    @Override
+    SheetRows parseSheet(int index) {
+        return new HSSFSheetRows(sheetOffsets.get(index));
+    }
+
+    private CellStyle getStyle(int xfIndex) {
+        return xfIndex < styles.size() ? styles.get(xfIndex) : null;
+    }
+
+    @Override
+    void closeSource() {
+        try {
+            fs.close();
+        } catch (IOException e) {
+            log.error("Error while closing workbook.", e);
+        }
+    }
+
+    /**
+     * Only simple formulas can be rendered without the workbook; others keep an empty text.
+     */
+    private static String renderFormula(Ptg[] ptgs) {
+        for (Ptg ptg : ptgs) {
+            if (ptg instanceof WorkbookDependentFormula || ptg instanceof ExpPtg) {
+                return "";
+            }
+        }
+        try {
+            return FormulaRenderer.toFormulaString(null, ptgs);
+        } catch (RuntimeException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Pulls the cell records of a worksheet substream and groups them into rows.
+     */
+    private class HSSFSheetRows implements SheetRows {
+        private final int offset;
+        private final InputStream stream;
+        private final RecordFactoryInputStream records;
+        private final StringCache strings;
+        // row whose cells are being collected, and rows found complete
+        private StreamingRow building;
+        private final Deque<StreamingRow> completed = new ArrayDeque<>();
+        // rows declared by row records of the current block, which may have no cell
+        private final Deque<Integer> declaredRows = new ArrayDeque<>();
+        // formula cell waiting for the string record holding its result
+        private StreamingCell pendingFormula;
+        private StreamingRow nextRow;
+        private int depth;
+        private boolean endOfSheet;
+        private int skipFrom = -1;
+        private int skipTo = -1;
+        private IntPredicate columns;
+        private List<CellRangeAddress> mergedRegions;
+        private boolean finished;
+
+        @SneakyThrows
+        HSSFSheetRows(int offset) {
+            this.offset = offset;
+            this.stream = openStream(offset);
+            this.records = new RecordFactoryInputStream(stream, false);
+            this.strings = stringCacheSize > 0 ? new StringCache(stringCacheSize) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null && !finished) {
+                nextRow = parseNextRow();
+                if (nextRow == null) {
+                    close();
+                }
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public void skipRows(int fromIndex, int toIndex) {
+            this.skipFrom = fromIndex;
+            this.skipTo = toIndex;
+        }
+
+        @Override
+        public void selectColumns(IntPredicate columns) {
+            this.columns = columns;
+        }
+
+        /**
+         * Merged regions follow the cell records, so they are found by a separate pass over the sheet.
+         */
+        @Override
+        @SneakyThrows
+        public List<CellRangeAddress> getMergedRegions() {
+            if (mergedRegions != null) {
+                return mergedRegions;
+            }
+            mergedRegions = new ArrayList<>();
+            try (InputStream scan = openStream(offset)) {
+                RecordFactoryInputStream sheet = new RecordFactoryInputStream(scan, false);
+                int level = 0;
+                Record record;
+                while ((record = sheet.nextRecord()) != null) {
+                    if (record instanceof BOFRecord) {
+                        level++;
+                    } else if (record instanceof EOFRecord && --level == 0) {
+                        break;
+                    } else if (record instanceof MergeCellsRecord && level == 1) {
+                        MergeCellsRecord merged = (MergeCellsRecord) record;
+                        for (int i = 0; i < merged.getNumAreas(); i++) {
+                            mergedRegions.add(merged.getAreaAt(i));
+                        }
+                    }
+                }
+            }
+            return mergedRegions;
+        }
+
+        @Override
+        public StreamingRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StreamingRow row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        private StreamingRow parseNextRow() {
+            Record record;
+            while (completed.isEmpty() && !endOfSheet && (record = records.nextRecord()) != null) {
+                if (record instanceof BOFRecord) {
+                    depth++;
+                } else if (record instanceof EOFRecord && --depth == 0) {
+                    // the next sheet follows
+                    endOfSheet = true;
+                } else if (depth == 1) {
+                    // records of nested substreams, e.g. charts, are ignored
+                    readRecord(record);
+                }
+            }
+            if (completed.isEmpty()) {
+                // end of the sheet
+                startRow(Integer.MAX_VALUE);
+                building = null;
+            }
+            return completed.poll();
+        }
+
+        private void readRecord(Record record) {
+            if (record instanceof RowRecord) {
+                int rowIndex = ((RowRecord) record).getRowNumber();
+                if (!isSkipped(rowIndex)) {
+                    declaredRows.add(rowIndex);
+                }
+                return;
+            }
+            if (record instanceof StringRecord) {
+                if (pendingFormula != null) {
+                    pendingFormula.setString(intern(((StringRecord) record).getString()));
+                    pendingFormula = null;
+                }
+                return;
+            }
+
+            if (record instanceof NumberRecord) {
+                NumberRecord number = (NumberRecord) record;
+                StreamingCell cell = newCell(number.getRow(), number.getColumn(), number.getXFIndex());
+                if (cell != null) {
+                    cell.setNumeric(number.getValue());
+                }
+            } else if (record instanceof LabelSSTRecord) {
+                LabelSSTRecord label = (LabelSSTRecord) record;
+                StreamingCell cell = newCell(label.getRow(), label.getColumn(), label.getXFIndex());
+                if (cell != null) {
+                    int index = label.getSSTIndex();
+                    cell.setString(strings != null
+                                   ? strings.get(index, this::getSharedString)
+                                   : getSharedString(index));
+                }
+            } else if (record instanceof RKRecord) {
+                RKRecord rk = (RKRecord) record;
+                StreamingCell cell = newCell(rk.getRow(), rk.getColumn(), rk.getXFIndex());
+                if (cell != null) {
+                    cell.setNumeric(rk.getRKNumber());
+                }
+            } else if (record instanceof MulRKRecord) {
+                MulRKRecord rks = (MulRKRecord) record;
+                for (int i = 0; i < rks.getNumColumns(); i++) {
+                    StreamingCell cell = newCell(rks.getRow(), rks.getFirstColumn() + i, rks.getXFAt(i));
+                    if (cell != null) {
+                        cell.setNumeric(rks.getRKNumberAt(i));
+                    }
+                }
+            } else if (record instanceof FormulaRecord) {
+                readFormula((FormulaRecord) record);
+            } else if (record instanceof BoolErrRecord) {
+                BoolErrRecord boolErr = (BoolErrRecord) record;
+                StreamingCell cell = newCell(boolErr.getRow(), boolErr.getColumn(), boolErr.getXFIndex());
+                if (cell != null) {
+                    if (boolErr.isBoolean()) {
+                        cell.setBoolean(boolErr.getBooleanValue());
+                    } else {
+                        cell.setError(boolErr.getErrorValue());
+                    }
+                }
+            } else if (record instanceof LabelRecord) {
+                LabelRecord label = (LabelRecord) record;
+                StreamingCell cell = newCell(label.getRow(), label.getColumn(), label.getXFIndex());
+                if (cell != null) {
+                    cell.setString(intern(label.getValue()));
+                }
+            } else if (record instanceof BlankRecord) {
+                BlankRecord blank = (BlankRecord) record;
+                newCell(blank.getRow(), blank.getColumn(), blank.getXFIndex());
+            } else if (record instanceof MulBlankRecord) {
+                MulBlankRecord blanks = (MulBlankRecord) record;
+                for (int i = 0; i < blanks.getNumColumns(); i++) {
+                    newCell(blanks.getRow(), blanks.getFirstColumn() + i, blanks.getXFAt(i));
+                }
+            }
+        }
+
+        private void readFormula(FormulaRecord formula) {
+            StreamingCell cell = newCell(formula.getRow(), formula.getColumn(), formula.getXFIndex());
+            if (cell == null) {
+                return;
+            }
+            cell.setFormula(renderFormula(formula.getParsedExpression()));
+            switch (formula.getCachedResultTypeEnum()) {
+                case NUMERIC:
+                    cell.setNumeric(formula.getValue());
+                    break;
+                case STRING:
+                    if (formula.hasCachedResultString()) {
+                        // the text follows in a string record
+                        pendingFormula = cell;
+                    } else {
+                        cell.setString("");
+                    }
+                    break;
+                case BOOLEAN:
+                    cell.setBoolean(formula.getCachedBooleanValue());
+                    break;
+                case ERROR:
+                    cell.setError((byte) formula.getCachedErrorValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Add a cell to its row. Cell records come in ascending order of row, then column,
+         * so a cell of another row completes the current one.
+         *
+         * @return the new cell, or null if its row or column is not read
+         */
+        private StreamingCell newCell(int rowIndex, int colIndex, int xfIndex) {
+            if (isSkipped(rowIndex) || columns != null && !columns.test(colIndex)) {
+                return null;
+            }
+            if (building == null || building.getRowNum() != rowIndex) {
+                startRow(rowIndex);
+            }
+            StreamingCell cell = new StreamingCell(building, colIndex, getStyle(xfIndex), date1904);
+            building.addCell(cell);
+            return cell;
+        }
+
+        private boolean isSkipped(int rowIndex) {
+            return rowIndex >= skipFrom && rowIndex <= skipTo;
+        }
+
+        /**
+         * Complete the current row, and declared rows without cells before the new one.
+         */
+        private void startRow(int rowIndex) {
+            int lastRowIndex = -1;
+            if (building != null) {
+                completed.add(building);
+                lastRowIndex = building.getRowNum();
+            }
+            while (!declaredRows.isEmpty() && declaredRows.peek() <= rowIndex) {
+                int declared = declaredRows.poll();
+                if (declared > lastRowIndex && declared < rowIndex) {
+                    completed.add(new StreamingRow(declared));
+                }
+            }
+            building = new StreamingRow(rowIndex);
+        }
+
+        private String getSharedString(int index) {
+            return sst.getString(index).getString();
+        }
+
+        private String intern(String value) {
+            return strings != null ? strings.intern(value) : value;
+        }
+
+        @Override
+        public void close() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.error("Error while closing sheet stream.", e);
+            }
+        }
+    }
+
+    /**
+     * Serialize reads of a document stream on its file system.
+     */
+    private static class LockedInputStream extends FilterInputStream {
+        private final Object lock;
+
+        LockedInputStream(InputStream in, Object lock) {
+            super(in);
+            this.lock = lock;
+        }
+
+        @Override
+        public int read() throws IOException {
+            synchronized (lock) {
+                return super.read();
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            synchronized (lock) {
+                return super.read(b, off, len);
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            synchronized (lock) {
+                return super.skip(n);
+            }
+        }
+    }
+}
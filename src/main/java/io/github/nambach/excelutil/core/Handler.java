@@ -7,9 +7,14 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import lombok.var;
+import org.apache.poi.ss.usermodel.CellType;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
@@ -52,8 +57,13 @@ public class Handler<T> {
     private Integer colFrom;
     private String colTitle;
     private String fieldName;
+    // type of the DTO field, once bound to a field
+    private Class<?> fieldType;
     private BiConsumer<T, ReaderCell> coreHandler;
     private TypeValidator typeValidator;
+    // position in constructor arguments, when DTO is created by constructor
+    private int argIndex = -1;
+    private Function<ReaderCell, Object> argReader;
 
     Handler() {
     }
@@ -122,26 +132,155 @@ public class Handler<T> {
         return typeValidator != null;
     }
 
+    boolean isConstructorArg() {
+        return argIndex >= 0;
+    }
+
+    /**
+     * Collect the cell value as a constructor argument of DTO.
+     *
+     * @param index position of the argument
+     * @param type  type of the argument
+     * @return current handler
+     */
+    Handler<T> wrapConstructorArg(int index, Class<?> type) {
+        Function<ReaderCell, Object> reader = FIELD_READERS.get(type);
+        if (reader == null) {
+            log.warn("Type '{}' of field '{}' is not supported, the field will not be read.", type, fieldName);
+        }
+        this.fieldType = type;
+        this.argIndex = index;
+        this.argReader = reader != null ? reader : cell -> null;
+        return this;
+    }
+
+    /**
+     * Store the cell value into a DTO property. The reader and setter are resolved here
+     * once, so that handling a cell does neither a map lookup nor a reflective call.
+     * Primitive properties are read without boxing, and left untouched when the cell has no value.
+     *
+     * @param pd DTO property
+     * @return current handler
+     */
     protected Handler<T> wrapHandleField(PropertyDescriptor pd) {
-        Method setter = pd.getWriteMethod();
         Class<?> type = pd.getPropertyType();
+        this.fieldType = type;
+        MethodHandle setter = findSetter(pd);
+        if (setter == null) {
+            this.coreHandler = (object, cell) -> {
+            };
+            return this;
+        }
 
-        this.coreHandler = (T object, ReaderCell cell) -> {
-            Object cellValue;
+        if (type == int.class) {
+            MethodHandle intSetter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            this.coreHandler = (object, cell) -> {
+                double value = cell.readDoubleValue();
+                if (hasValue(value, cell)) {
+                    try {
+                        intSetter.invokeExact((Object) object, (int) value);
+                    } catch (Throwable e) {
+                        log.error("Error while invoking setter.", e);
+                    }
+                }
+            };
+        } else if (type == long.class) {
+            MethodHandle longSetter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            this.coreHandler = (object, cell) -> {
+                double value = cell.readDoubleValue();
+                if (hasValue(value, cell)) {
+                    try {
+                        longSetter.invokeExact((Object) object, (long) value);
+                    } catch (Throwable e) {
+                        log.error("Error while invoking setter.", e);
+                    }
+                }
+            };
+        } else if (type == double.class) {
+            MethodHandle doubleSetter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            this.coreHandler = (object, cell) -> {
+                double value = cell.readDoubleValue();
+                if (hasValue(value, cell)) {
+                    try {
+                        doubleSetter.invokeExact((Object) object, value);
+                    } catch (Throwable e) {
+                        log.error("Error while invoking setter.", e);
+                    }
+                }
+            };
+        } else if (type == float.class) {
+            MethodHandle floatSetter = setter.asType(MethodType.methodType(void.class, Object.class, float.class));
+            this.coreHandler = (object, cell) -> {
+                double value = cell.readDoubleValue();
+                if (hasValue(value, cell)) {
+                    try {
+                        floatSetter.invokeExact((Object) object, (float) value);
+                    } catch (Throwable e) {
+                        log.error("Error while invoking setter.", e);
+                    }
+                }
+            };
+        } else if (type == boolean.class) {
+            MethodHandle booleanSetter = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            this.coreHandler = (object, cell) -> {
+                Boolean value = cell.readBoolean();
+                if (value != null) {
+                    try {
+                        booleanSetter.invokeExact((Object) object, value.booleanValue());
+                    } catch (Throwable e) {
+                        log.error("Error while invoking setter.", e);
+                    }
+                }
+            };
+        } else if (type.isPrimitive()) {
+            log.warn("Type '{}' of field '{}' is not supported, the field will not be read.", type, pd.getName());
+            this.coreHandler = (object, cell) -> {
+            };
+        } else {
+            MethodHandle objectSetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
             Function<ReaderCell, Object> reader = FIELD_READERS.get(type);
-            if (reader == null) {
-                cellValue = null;
-            } else {
-                cellValue = reader.apply(cell);
-            }
-
-            try {
-                setter.invoke(object, cellValue);
-            } catch (Exception e) {
-                log.error("Error while invoking setter.", e);
-            }
-        };
+            this.coreHandler = (object, cell) -> {
+                Object cellValue = reader == null ? null : reader.apply(cell);
+                try {
+                    objectSetter.invokeExact((Object) object, cellValue);
+                } catch (Throwable e) {
+                    log.error("Error while invoking setter.", e);
+                }
+            };
+        }
 
         return this;
     }
+
+    /**
+     * @param type field type
+     * @return reader of cell values of the type, or null if not supported
+     */
+    static Function<ReaderCell, Object> getFieldReader(Class<?> type) {
+        return FIELD_READERS.get(type);
+    }
+
+    /**
+     * NaN means the cell has no number, unless it is a numeric cell really holding NaN.
+     */
+    static boolean hasValue(double value, ReaderCell cell) {
+        return !Double.isNaN(value) || cell.getValueType() == CellType.NUMERIC;
+    }
+
+    private static MethodHandle findSetter(PropertyDescriptor pd) {
+        Method setter = pd.getWriteMethod();
+        if (setter == null) {
+            log.error("Field '{}' has no setter.", pd.getName());
+            return null;
+        }
+        try {
+            if (!Modifier.isPublic(setter.getDeclaringClass().getModifiers())) {
+                setter.setAccessible(true);
+            }
+            return MethodHandles.lookup().unreflect(setter);
+        } catch (Exception e) {
+            log.error("Cannot access setter of field '" + pd.getName() + "'.", e);
+            return null;
+        }
+    }
 }
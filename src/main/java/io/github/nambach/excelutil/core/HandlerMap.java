@@ -1,7 +1,11 @@
 package io.github.nambach.excelutil.core;
 
+import io.github.nambach.excelutil.validator.Validator;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -20,23 +24,35 @@ class HandlerMap<T> {
         target.putAll(temp);
     }
 
-    private Handlers<T> getIndexFrom(int colIndex) {
-        Handlers<T> rs = new Handlers<>();
-        for (int i = 0; i <= colIndex; i++) {
-            rs.concat(indexFromMap.getOrDefault(i, empty));
-        }
-        return rs;
-    }
+    /**
+     * Resolve handlers of every column: handlers at the index first,
+     * then handlers from a smaller index, then handlers by title.
+     *
+     * @param titles    column titles of the sheet
+     * @param validator object validator, may be null
+     * @return column plan
+     */
+    ColumnPlan<T> compile(Map<Integer, String> titles, Validator<T> validator) {
+        int length = Stream.of(indexAtMap.keySet(), indexFromMap.keySet(), titles.keySet())
+                           .flatMap(Collection::stream)
+                           .reduce(Math::max).orElse(-1) + 1;
 
-    public Handlers<T> get(int colIndex, String colTitle) {
-        Handlers<T> indexHandlers = indexAtMap.getOrDefault(colIndex, empty);
-        Handlers<T> indexFromHandlers = getIndexFrom(colIndex);
-        Handlers<T> titleHandlers = titleMap.getOrDefault(colTitle, empty);
+        List<ColumnPlan.Column<T>> columns = new ArrayList<>(length);
+        Handlers<T> indexFromHandlers = new Handlers<>();
+        for (int i = 0; i < length; i++) {
+            indexFromHandlers.concat(indexFromMap.getOrDefault(i, empty));
+            String title = titles.get(i);
+            Handlers<T> handlers = new Handlers<T>()
+                    .concat(indexAtMap.getOrDefault(i, empty))
+                    .concat(indexFromHandlers)
+                    .concat(titleMap.getOrDefault(title, empty));
+            columns.add(new ColumnPlan.Column<>(title, handlers, validator));
+        }
 
-        return new Handlers<T>()
-                .concat(indexHandlers)
+        Handlers<T> tailHandlers = new Handlers<T>()
                 .concat(indexFromHandlers)
-                .concat(titleHandlers);
+                .concat(titleMap.getOrDefault(null, empty));
+        return ColumnPlan.of(columns, new ColumnPlan.Column<>(null, tailHandlers, validator));
     }
 
     public void putAt(int index, Handler<T> handler) {
@@ -54,6 +70,10 @@ class HandlerMap<T> {
         titleMap.get(title).add(handler);
     }
 
+    public boolean isEmpty() {
+        return indexAtMap.isEmpty() && indexFromMap.isEmpty() && titleMap.isEmpty();
+    }
+
     public HandlerMap<T> makeCopy() {
         HandlerMap<T> clone = new HandlerMap<>();
         clone.indexAtMap.putAll(this.indexAtMap);
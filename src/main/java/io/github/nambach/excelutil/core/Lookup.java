@@ -0,0 +1,129 @@
+package io.github.nambach.excelutil.core;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A sheet of the same workbook whose rows enrich the items of the main sheet, joined by key.
+ * Rows of the lookup sheet are parsed once per reading (see {@link LookupCache}), indexed by key,
+ * and never collected into a {@link Result}.
+ *
+ * @param <T> DTO of the main sheet
+ * @param <P> DTO of the lookup sheet
+ */
+class Lookup<T, P> {
+    private final String sheetName;
+    private final ReaderConfig<P> config;
+    private final Function<P, ?> lookupKey;
+    private final Function<T, ?> foreignKey;
+    private final BiConsumer<T, P> enricher;
+
+    Lookup(String sheetName, ReaderConfig<P> config,
+           Function<P, ?> lookupKey, Function<T, ?> foreignKey, BiConsumer<T, P> enricher) {
+        this.sheetName = sheetName;
+        this.config = config;
+        this.lookupKey = lookupKey;
+        this.foreignKey = foreignKey;
+        this.enricher = enricher;
+    }
+
+    /**
+     * Index the lookup sheet of a workbook being read, unless it is already indexed.
+     *
+     * @param source workbook source
+     * @return enricher of main items
+     */
+    Consumer<T> load(WorkbookSource source) {
+        LookupCache cache = source.getLookupCache();
+        return bind(cache, cache.getItems(sheetName, config, () -> parse(source)));
+    }
+
+    /**
+     * See {@link #load(WorkbookSource)}.
+     *
+     * @param workbook workbook loaded in memory
+     * @param cache    lookup sheets of the current reading
+     * @return enricher of main items
+     */
+    Consumer<T> load(Workbook workbook, LookupCache cache) {
+        return bind(cache, cache.getItems(sheetName, config, () -> parse(workbook, cache)));
+    }
+
+    private List<P> parse(WorkbookSource source) {
+        int index = source.getSheetIndex(sheetName);
+        if (index < 0) {
+            throw notFound();
+        }
+        List<P> items = new ArrayList<>();
+        Pointer base = config.getBaseCoordinate();
+        ReaderSession<P> session = open(base, items);
+        try (WorkbookSource.SheetRows rows = source.openSheet(index, session)) {
+            session.acceptAll(rows);
+        }
+        return items;
+    }
+
+    private List<P> parse(Workbook workbook, LookupCache cache) {
+        Sheet sheet = workbook.getSheet(sheetName);
+        if (sheet == null) {
+            throw notFound();
+        }
+        List<P> items = new ArrayList<>();
+        Pointer base = config.getBaseCoordinate();
+        ReaderSession<P> session = open(base, items);
+        session.setSheetIndex(workbook.getSheetIndex(sheet));
+        session.loadMergedRegions(sheet::getMergedRegions);
+        session.loadLookups(workbook, cache);
+        session.acceptAll(sheet.iterator());
+        return items;
+    }
+
+    private ReaderSession<P> open(Pointer base, List<P> items) {
+        ReaderSession<P> session = new ReaderSession<>(config, base.getRow(), base.getCol());
+        session.dropRawData();
+        session.setSink(raw -> {
+            if (raw.getData() != null) {
+                items.add(raw.getData());
+            }
+        });
+        return session;
+    }
+
+    /**
+     * Key the parsed items, which may be shared with lookups of other keys.
+     */
+    private Map<Object, P> index(List<P> items) {
+        // the first row of a key wins; rows without key cannot be joined
+        Map<Object, P> index = new HashMap<>();
+        for (P item : items) {
+            Object key = lookupKey.apply(item);
+            if (key != null) {
+                index.putIfAbsent(key, item);
+            }
+        }
+        return index;
+    }
+
+    private Consumer<T> bind(LookupCache cache, List<P> parsed) {
+        Map<Object, P> items = cache.getIndex(this, () -> index(parsed));
+        return item -> {
+            Object key = foreignKey.apply(item);
+            P match = key != null ? items.get(key) : null;
+            if (match != null) {
+                enricher.accept(item, match);
+            }
+        };
+    }
+
+    private RuntimeException notFound() {
+        return new RuntimeException("Lookup sheet '" + sheetName + "' not found");
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.nambach.excelutil.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Lookup sheets parsed during one reading of a workbook. A sheet is parsed once per config,
+ * however many sections or sheets join it, even through lookups declared separately.
+ * Sheets being read in parallel only wait for each other when they need the same lookup sheet.
+ */
+class LookupCache {
+    private final Map<Key, Entry> items = new ConcurrentHashMap<>();
+    private final Map<Lookup<?, ?>, Map<Object, ?>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * @param sheetName name of the lookup sheet
+     * @param config    reading rules of the lookup sheet
+     * @param loader    parser of the sheet, only called the first time
+     * @param <P>       DTO of the lookup sheet
+     * @return items of the lookup sheet in row order
+     */
+    @SuppressWarnings("unchecked")
+    <P> List<P> getItems(String sheetName, ReaderConfig<P> config, Supplier<List<P>> loader) {
+        // entries are locked one by one, since parsing a sheet may parse the sheets of nested lookups
+        Entry entry = items.computeIfAbsent(new Key(sheetName, config), key -> new Entry());
+        return (List<P>) entry.get(loader);
+    }
+
+    /**
+     * @param lookup  lookup to index
+     * @param indexer builder of the index from parsed items, only called the first time
+     * @param <P>     DTO of the lookup sheet
+     * @return items of the lookup sheet by key
+     */
+    @SuppressWarnings("unchecked")
+    <P> Map<Object, P> getIndex(Lookup<?, P> lookup, Supplier<Map<Object, P>> indexer) {
+        return (Map<Object, P>) indexes.computeIfAbsent(lookup, l -> indexer.get());
+    }
+
+    private static class Key {
+        private final String sheetName;
+        private final ReaderConfig<?> config;
+
+        Key(String sheetName, ReaderConfig<?> config) {
+            this.sheetName = sheetName;
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return sheetName.equals(other.sheetName) && config == other.config;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sheetName, System.identityHashCode(config));
+        }
+    }
+
+    private static class Entry {
+        private List<?> items;
+
+        synchronized List<?> get(Supplier<? extends List<?>> loader) {
+            if (items == null) {
+                items = loader.get();
+            }
+            return items;
+        }
+    }
+}
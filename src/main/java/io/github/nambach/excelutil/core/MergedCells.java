@@ -0,0 +1,143 @@
+package io.github.nambach.excelutil.core;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fill the value of a merged region into every cell it covers. Regions are sorted once per sheet
+ * by first row; as rows are pushed, regions are activated when their first row is reached and
+ * dropped after their last row, so a row only looks at the regions covering it. Values of top
+ * left cells are kept while their region is active.
+ */
+class MergedCells {
+    private final CellRangeAddress[] regions;
+    // first columns of regions, in ascending order
+    private final int[] firstColumns;
+    private final List<Active> active = new ArrayList<>();
+    // next region to activate
+    private int next;
+
+    MergedCells(List<CellRangeAddress> regions) {
+        this.regions = regions.toArray(new CellRangeAddress[0]);
+        Arrays.sort(this.regions, Comparator.comparingInt(CellRangeAddress::getFirstRow));
+        this.firstColumns = Arrays.stream(this.regions)
+                                  .mapToInt(CellRangeAddress::getFirstColumn)
+                                  .sorted()
+                                  .distinct()
+                                  .toArray();
+    }
+
+    boolean isEmpty() {
+        return regions.length == 0;
+    }
+
+    /**
+     * @param col column index
+     * @return true if a region starts at the column, so its top left cell must be read
+     */
+    boolean isFirstColumn(int col) {
+        return Arrays.binarySearch(firstColumns, col) >= 0;
+    }
+
+    /**
+     * Remember values of top left cells found in the row, then fill blank cells of regions
+     * from the given column onwards. Rows must be pushed in ascending order.
+     *
+     * @param row     current row
+     * @param fill    whether cells of this row should be filled
+     * @param fromCol first column to fill
+     * @return the row itself, or a detached copy with filled cells
+     */
+    Row apply(Row row, boolean fill, int fromCol) {
+        int rowIndex = row.getRowNum();
+        activate(rowIndex);
+        if (active.isEmpty()) {
+            return row;
+        }
+
+        Map<Integer, Cell> filled = null;
+        Iterator<Active> iterator = active.iterator();
+        while (iterator.hasNext()) {
+            Active current = iterator.next();
+            CellRangeAddress region = current.region;
+            if (region.getLastRow() < rowIndex) {
+                // rows may be missing, so the last row of a region is not always pushed
+                iterator.remove();
+                continue;
+            }
+
+            if (region.getFirstRow() == rowIndex) {
+                current.value = row.getCell(region.getFirstColumn());
+            }
+            if (fill && current.value != null) {
+                int firstCol = Math.max(region.getFirstColumn(), fromCol);
+                for (int col = firstCol; col <= region.getLastColumn(); col++) {
+                    boolean topLeft = region.getFirstRow() == rowIndex && region.getFirstColumn() == col;
+                    if (!topLeft && isBlank(row.getCell(col))) {
+                        if (filled == null) {
+                            filled = new TreeMap<>();
+                        }
+                        filled.put(col, current.value);
+                    }
+                }
+            }
+
+            if (region.getLastRow() == rowIndex) {
+                iterator.remove();
+            }
+        }
+        return filled == null ? row : copy(row, filled);
+    }
+
+    /**
+     * Activate regions starting at or before the row. Regions that already ended are skipped,
+     * since their top left cell was never pushed.
+     */
+    private void activate(int rowIndex) {
+        while (next < regions.length && regions[next].getFirstRow() <= rowIndex) {
+            CellRangeAddress region = regions[next++];
+            if (region.getLastRow() >= rowIndex) {
+                active.add(new Active(region));
+            }
+        }
+    }
+
+    private static boolean isBlank(Cell cell) {
+        return cell == null || cell.getCellType() == CellType.BLANK;
+    }
+
+    private static Row copy(Row row, Map<Integer, Cell> filled) {
+        StreamingRow copy = new StreamingRow(row.getRowNum());
+        for (Cell cell : row) {
+            Cell value = filled.get(cell.getColumnIndex());
+            if (value == null) {
+                copy.addCell(cell);
+            }
+        }
+        filled.forEach((col, value) -> copy.addCell(StreamingCell.copyValue(value, copy, col)));
+        copy.sortCells();
+        return copy;
+    }
+
+    /**
+     * A region covering the current row, with the value of its top left cell if it was read.
+     */
+    private static class Active {
+        private final CellRangeAddress region;
+        private Cell value;
+
+        Active(CellRangeAddress region) {
+            this.region = region;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * Create DTO instances through a constructor resolved once per config.
+ * <p>
+ * A DTO is either a mutable bean created by its no-argument constructor,
+ * or an immutable object whose constructor takes the mapped fields as arguments.
+ *
+ * @param <T> DTO
+ */
+@Log4j2
+class ObjectFactory<T> {
+    private final Class<T> tClass;
+    private final MethodHandle constructor;
+    // constructor mode only
+    private final String[] argNames;
+    private final Class<?>[] argTypes;
+    private final Object[] defaultArgs;
+
+    private ObjectFactory(Class<T> tClass, MethodHandle constructor, String[] argNames, Class<?>[] argTypes) {
+        this.tClass = tClass;
+        this.constructor = constructor;
+        this.argNames = argNames;
+        this.argTypes = argTypes;
+        this.defaultArgs = argTypes == null ? null : Arrays.stream(argTypes).map(ObjectFactory::defaultValue).toArray();
+    }
+
+    /**
+     * Resolve the default factory of a class: the canonical constructor for records,
+     * otherwise the no-argument constructor.
+     *
+     * @param tClass DTO type
+     * @param <T>    DTO
+     * @return factory
+     */
+    static <T> ObjectFactory<T> of(Class<T> tClass) {
+        String[] components = getRecordComponents(tClass);
+        if (components != null) {
+            return ofConstructor(tClass, components);
+        }
+
+        MethodHandle constructor = null;
+        try {
+            constructor = unreflect(tClass.getDeclaredConstructor())
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | RuntimeException e) {
+            // reported when an object is created
+        }
+        return new ObjectFactory<>(tClass, constructor, null, null);
+    }
+
+    /**
+     * Resolve the constructor whose parameters are the given fields, in the same order.
+     *
+     * @param tClass   DTO type
+     * @param argNames field names of constructor parameters
+     * @param <T>      DTO
+     * @return factory
+     */
+    static <T> ObjectFactory<T> ofConstructor(Class<T> tClass, String[] argNames) {
+        Class<?>[] argTypes = new Class<?>[argNames.length];
+        for (int i = 0; i < argNames.length; i++) {
+            argTypes[i] = getFieldType(tClass, argNames[i]);
+        }
+
+        try {
+            MethodHandle constructor = unreflect(tClass.getDeclaredConstructor(argTypes))
+                    .asSpreader(Object[].class, argTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new ObjectFactory<>(tClass, constructor, argNames.clone(), argTypes);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("Could not find constructor " + tClass.getSimpleName() +
+                                       Arrays.toString(argTypes) + " in class " + tClass.getName(), e);
+        }
+    }
+
+    boolean hasArgs() {
+        return argNames != null;
+    }
+
+    /**
+     * @param fieldName field name
+     * @return position of the field in constructor arguments, or -1
+     */
+    int indexOf(String fieldName) {
+        if (argNames == null) {
+            return -1;
+        }
+        for (int i = 0; i < argNames.length; i++) {
+            if (argNames[i].equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    Class<?> getArgType(int index) {
+        return argTypes[index];
+    }
+
+    /**
+     * @return arguments filled with default values, to be collected while reading a row
+     */
+    Object[] newArgs() {
+        return defaultArgs.clone();
+    }
+
+    /**
+     * Create an object with the no-argument constructor.
+     *
+     * @return new object
+     */
+    @SuppressWarnings("unchecked")
+    T create() {
+        if (constructor == null) {
+            throw new RuntimeException("Please provide a no argument constructor for class " + tClass.getName());
+        }
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create object of class " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * Create an object with the collected constructor arguments.
+     *
+     * @param args arguments from {@link #newArgs()}
+     * @return new object
+     */
+    @SuppressWarnings("unchecked")
+    T create(Object[] args) {
+        try {
+            return (T) (Object) constructor.invokeExact(args);
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create object of class " + tClass.getName(), e);
+        }
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) {
+        try {
+            if (!Modifier.isPublic(constructor.getModifiers()) ||
+                !Modifier.isPublic(constructor.getDeclaringClass().getModifiers())) {
+                constructor.setAccessible(true);
+            }
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (Exception e) {
+            throw new RuntimeException("Cannot access constructor of class " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private static Class<?> getFieldType(Class<?> tClass, String fieldName) {
+        for (Class<?> c = tClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(fieldName).getType();
+            } catch (NoSuchFieldException e) {
+                // look up the parent class
+            }
+        }
+        throw new RuntimeException(String.format("Could not found field '%s' in class %s", fieldName, tClass.getName()));
+    }
+
+    /**
+     * Records are only available from Java 16, so they are inspected reflectively.
+     *
+     * @return names of record components, or null if the class is not a record
+     */
+    private static String[] getRecordComponents(Class<?> tClass) {
+        try {
+            Method isRecord = Class.class.getMethod("isRecord");
+            if (!((Boolean) isRecord.invoke(tClass))) {
+                return null;
+            }
+            Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(tClass);
+            String[] names = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = (String) components[i].getClass().getMethod("getName").invoke(components[i]);
+            }
+            return names;
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            log.error("Cannot read record components of class " + tClass.getName(), e);
+            return null;
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        // zero value of primitives, null otherwise
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+}
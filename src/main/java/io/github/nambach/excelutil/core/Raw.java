@@ -26,13 +26,25 @@ public class Raw<T> {
      * Map Key: column title or column index
      * Map Value: cell value of DTO row
      */
-    private final Map<String, Object> otherData;
+    @Getter(AccessLevel.NONE)
+    private Map<String, Object> otherData;
     /**
      * DTO resulted from the reading process.
      */
     private T data;
+    /**
+     * Index of the row that the DTO was read from.
+     */
+    private int rowIndex;
 
     Raw() {
-        otherData = new LinkedHashMap<>();
+    }
+
+    public Map<String, Object> getOtherData() {
+        // allocated on demand, since most rows have no unmapped value
+        if (otherData == null) {
+            otherData = new LinkedHashMap<>();
+        }
+        return otherData;
     }
 }
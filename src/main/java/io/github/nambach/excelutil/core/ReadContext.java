@@ -0,0 +1,112 @@
+package io.github.nambach.excelutil.core;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellType;
+
+/**
+ * Tools shared by all cells of a sheet being read. The formula evaluator keeps
+ * its own cache, so each formula is evaluated once per sheet.
+ * Not thread-safe: each reading thread uses its own context.
+ */
+class ReadContext {
+    private boolean useCachedFormulaValues;
+    private final DataFormatter formatter;
+    private final StringCache strings;
+    private FormulaEvaluator evaluator;
+
+    ReadContext(boolean useCachedFormulaValues) {
+        this(useCachedFormulaValues, 0);
+    }
+
+    ReadContext(boolean useCachedFormulaValues, int stringCacheSize) {
+        this.useCachedFormulaValues = useCachedFormulaValues;
+        this.strings = stringCacheSize > 0 ? new StringCache(stringCacheSize) : null;
+        this.formatter = new DataFormatter();
+        // formula cells are evaluated before formatting, so their cached value is up to date
+        this.formatter.setUseCachedValuesForFormulaCells(true);
+    }
+
+    /**
+     * Read formula cells from their cached result from now on, e.g. once they were evaluated
+     * by another thread.
+     */
+    void useCachedFormulaValues() {
+        this.useCachedFormulaValues = true;
+    }
+
+    /**
+     * Evaluate the formula cells of a row, so that their cached results are up to date
+     * before the row is handed off to another thread. Evaluation writes into the cells,
+     * which must not happen concurrently on a workbook loaded in memory.
+     *
+     * @param row row about to be read with cached formula values
+     */
+    void evaluateFormulas(Row row) {
+        if (useCachedFormulaValues) {
+            return;
+        }
+        for (Cell cell : row) {
+            if (cell.getCellType() == CellType.FORMULA && cell.getSheet() != null) {
+                getEvaluator(cell).evaluateFormulaCell(cell);
+            }
+        }
+    }
+
+    /**
+     * @param cell cell
+     * @return type of the cell value; formula cells are resolved to their result type.
+     * Cells without a parent sheet (streaming) use the cached formula result.
+     */
+    CellType getValueType(Cell cell) {
+        CellType cellType = cell.getCellType();
+        if (cellType != CellType.FORMULA) {
+            return cellType;
+        }
+        if (useCachedFormulaValues || cell.getSheet() == null) {
+            return cell.getCachedFormulaResultType();
+        }
+        return getEvaluator(cell).evaluateFormulaCell(cell);
+    }
+
+    /**
+     * @param cell a string cell
+     * @return string value, shared with other cells of the same value if caching is on.
+     * Streaming cells are already shared by the parser.
+     */
+    String getString(Cell cell) {
+        if (strings == null || cell instanceof StreamingCell) {
+            return cell.getStringCellValue();
+        }
+        if (cell instanceof XSSFCell) {
+            CTCell ctCell = ((XSSFCell) cell).getCTCell();
+            if (ctCell.getT() == STCellType.S && ctCell.isSetV()) {
+                return strings.get(Integer.parseInt(ctCell.getV()), i -> cell.getStringCellValue());
+            }
+        }
+        return strings.intern(cell.getStringCellValue());
+    }
+
+    /**
+     * @param cell a numeric or boolean cell
+     * @return cell value formatted as displayed in Excel
+     */
+    String format(Cell cell) {
+        String value = cell instanceof StreamingCell
+                       ? ((StreamingCell) cell).formatValue(formatter)
+                       : formatter.formatCellValue(cell);
+        return strings != null ? strings.intern(value) : value;
+    }
+
+    private FormulaEvaluator getEvaluator(Cell cell) {
+        if (evaluator == null) {
+            evaluator = cell.getSheet().getWorkbook().getCreationHelper().createFormulaEvaluator();
+        }
+        return evaluator;
+    }
+}
@@ -9,41 +9,80 @@ import io.github.nambach.excelutil.validator.builtin.TypeValidator;
 import lombok.extern.log4j.Log4j2;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.FormulaEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 
 /**
- * Contains information of the current read cell.
+ * Contains information of the current read cell. The same instance is re-pointed at
+ * each cell during a reading; use {@link #snapshot()} to keep a reference to a cell.
  */
 @Log4j2
 public class ReaderCell extends ReaderController {
     /**
      * Original Apache POI {@link Cell}
      */
-    private final Cell cell;
-    private final String columnTitle;
-    private FormulaEvaluator evaluator;
+    private Cell cell;
+    private String columnTitle;
+    private final ReadContext context;
+    private CellType valueType;
+    // value last converted for validation, and the validator type it was converted for;
+    // numbers are kept unboxed, the form tells which of the values holds it
+    private Class<?> validationKind;
+    private Class<?> validationForm;
+    private long validationLong;
+    private double validationDouble;
+    private Object validationValue;
 
-    ReaderCell(Cell cell, String columnTitle, ReaderConfig<?> config, Result<?> result) {
+    ReaderCell(Cell cell, String columnTitle, ReaderConfig<?> config, Result<?> result, ReadContext context) {
         super(config, result);
         this.cell = cell;
         this.columnTitle = columnTitle;
+        this.context = context;
+    }
+
+    private ReaderCell(ReaderCell other) {
+        super(other);
+        this.cell = other.cell;
+        this.columnTitle = other.columnTitle;
+        this.context = other.context;
+        this.valueType = other.valueType;
+    }
+
+    /**
+     * Move to another cell, dropping values resolved for the previous one.
+     */
+    ReaderCell point(Cell cell, String columnTitle) {
+        this.cell = cell;
+        this.columnTitle = columnTitle;
+        this.valueType = null;
+        this.validationKind = null;
+        this.validationValue = null;
+        reset();
+        return this;
+    }
+
+    /**
+     * @return a copy bound to the current cell, which stays valid after reading moves on.
+     */
+    public ReaderCell snapshot() {
+        return new ReaderCell(this);
     }
 
     public static ReaderCell wrap(Cell cell) {
-        return new ReaderCell(cell, null, null, null);
+        return new ReaderCell(cell, null, null, null, new ReadContext(false));
     }
 
-    private FormulaEvaluator getFormulaEvaluator() {
-        if (evaluator == null) {
-            evaluator = cell.getSheet().getWorkbook().getCreationHelper().createFormulaEvaluator();
-            return evaluator;
+    /**
+     * @return type of the cell value, resolved once per cell. Formulas are evaluated, unless
+     * cached formula values are used or the cell has no sheet.
+     */
+    CellType getValueType() {
+        if (valueType == null) {
+            valueType = context.getValueType(cell);
         }
-        return evaluator;
+        return valueType;
     }
 
     /**
@@ -104,17 +143,13 @@ public class ReaderCell extends ReaderController {
      * @return string value of the cell.
      */
     public String readString() {
-        CellType cellType = cell.getCellType();
-        if (cellType == CellType.FORMULA) {
-            cellType = getFormulaEvaluator().evaluateFormulaCell(cell);
-        }
+        CellType cellType = getValueType();
         switch (cellType) {
             case STRING:
-                return cell.getStringCellValue();
+                return context.getString(cell);
             case NUMERIC:
             case BOOLEAN:
-                DataFormatter formatter = new DataFormatter();
-                return formatter.formatCellValue(cell);
+                return context.format(cell);
             default:
                 return null;
         }
@@ -124,7 +159,7 @@ public class ReaderCell extends ReaderController {
      * @return date value of the cell as {@link Date} (if the actually data is stored as date).
      */
     public Date readDate() {
-        if (cell.getCellType() == CellType.NUMERIC) {
+        if (getValueType() == CellType.NUMERIC) {
             return cell.getDateCellValue();
         }
         return null;
@@ -134,7 +169,7 @@ public class ReaderCell extends ReaderController {
      * @return date value of the cell as {@link LocalDateTime} (if the actual data is stored as date).
      */
     public LocalDateTime readLocalDateTime() {
-        if (cell.getCellType() == CellType.NUMERIC) {
+        if (getValueType() == CellType.NUMERIC) {
             return cell.getLocalDateTimeCellValue();
         }
         return null;
@@ -144,10 +179,7 @@ public class ReaderCell extends ReaderController {
      * @return the double value of cell (if cell is numeric).
      */
     public Double readDouble() {
-        CellType cellType = cell.getCellType();
-        if (cellType == CellType.FORMULA) {
-            cellType = getFormulaEvaluator().evaluateFormulaCell(cell);
-        }
+        CellType cellType = getValueType();
         switch (cellType) {
             case STRING:
                 return tryParseDouble(cell.getStringCellValue());
@@ -160,6 +192,30 @@ public class ReaderCell extends ReaderController {
         }
     }
 
+    /**
+     * Same as {@link #readDouble()} without boxing. Unlike {@link #readDouble()}, a string
+     * that is not a number is not logged, since bad cells are reported by validation.
+     *
+     * @return the double value of cell, or NaN if there is none.
+     */
+    double readDoubleValue() {
+        CellType cellType = getValueType();
+        switch (cellType) {
+            case STRING:
+                try {
+                    return Double.parseDouble(cell.getStringCellValue());
+                } catch (NumberFormatException e) {
+                    return Double.NaN;
+                }
+            case NUMERIC:
+                return cell.getNumericCellValue();
+            case BOOLEAN:
+                return cell.getBooleanCellValue() ? 1 : 0;
+            default:
+                return Double.NaN;
+        }
+    }
+
     /**
      * @return the float value of cell (if cell is numeric).
      */
@@ -188,10 +244,7 @@ public class ReaderCell extends ReaderController {
      * @return the boolean value of cell (if cell is boolean type).
      */
     public Boolean readBoolean() {
-        CellType cellType = cell.getCellType();
-        if (cellType == CellType.FORMULA) {
-            cellType = getFormulaEvaluator().evaluateFormulaCell(cell);
-        }
+        CellType cellType = getValueType();
         switch (cellType) {
             case STRING:
                 return tryParseBoolean(cell.getStringCellValue());
@@ -219,20 +272,36 @@ public class ReaderCell extends ReaderController {
         if (typeValidator == null) {
             return;
         }
+        // no need to validate if the error would be dropped, or the row is already known to fail
+        if (!result.acceptsError(getRowIndex())) {
+            return;
+        }
 
-        Object val = readString();
-        if (typeValidator instanceof DecimalValidator) {
-            val = tryReadDouble();
-        } else if (typeValidator instanceof IntegerValidator) {
-            val = tryReadLong();
+        // convert the cell once, even if several validators check it
+        Class<?> kind = typeValidator instanceof DecimalValidator ? DecimalValidator.class
+                        : typeValidator instanceof IntegerValidator ? IntegerValidator.class
+                        : String.class;
+        if (kind != validationKind) {
+            validationKind = kind;
+            validationForm = Object.class;
+            validationValue = null;
+            if (kind == DecimalValidator.class) {
+                convertToDouble();
+            } else if (kind == IntegerValidator.class) {
+                convertToLong();
+            } else {
+                validationValue = readString();
+            }
         }
 
-        List<String> errors = typeValidator.test(val);
+        List<String> errors = validationForm == long.class ? typeValidator.testLong(validationLong)
+                              : validationForm == double.class ? typeValidator.testDouble(validationDouble)
+                              : typeValidator.test(validationValue);
 
         // set errors to result
         if (ListUtil.hasMember(errors)) {
             String field = TextUtil.getNotNull(fieldName, columnTitle, "Column " + (getColumnIndex() + 1));
-            result.newRowError(getRowIndex()).appendError(field, errors);
+            result.newValidationError(getRowIndex()).appendError(field, errors);
             if (isEarlyExit()) {
                 super.terminateNow();
             }
@@ -240,53 +309,61 @@ public class ReaderCell extends ReaderController {
     }
 
     /**
-     * @return double value of cell; if cell cannot produce double, function returns original value type
+     * Convert the cell to a double for validation; if cell cannot produce double, the original value is kept.
      */
-    private Object tryReadDouble() {
-        CellType cellType = cell.getCellType();
-        if (cellType == CellType.FORMULA) {
-            cellType = getFormulaEvaluator().evaluateFormulaCell(cell);
-        }
+    private void convertToDouble() {
+        CellType cellType = getValueType();
         switch (cellType) {
             case STRING:
                 String strVal = cell.getStringCellValue();
                 try {
-                    return Double.parseDouble(strVal);
+                    setValidationDouble(Double.parseDouble(strVal));
                 } catch (Exception e) {
-                    return strVal;
+                    validationValue = strVal;
                 }
+                break;
             case NUMERIC:
-                return cell.getNumericCellValue();
+                setValidationDouble(cell.getNumericCellValue());
+                break;
             default:
-                return null;
+                break;
         }
     }
 
     /**
-     * @return long value of cell; if cell cannot produce long, function returns original value type
+     * Convert the cell to a long for validation; if cell cannot produce long, the original value is kept.
      */
-    private Object tryReadLong() {
-        CellType cellType = cell.getCellType();
-        if (cellType == CellType.FORMULA) {
-            cellType = getFormulaEvaluator().evaluateFormulaCell(cell);
-        }
+    private void convertToLong() {
+        CellType cellType = getValueType();
         switch (cellType) {
             case STRING:
                 String strVal = cell.getStringCellValue();
                 try {
-                    return Long.parseLong(strVal);
+                    setValidationLong(Long.parseLong(strVal));
                 } catch (Exception e) {
-                    return strVal;
+                    validationValue = strVal;
                 }
+                break;
             case NUMERIC:
                 double val = cell.getNumericCellValue();
                 if ((val % 1) == 0) { // test if this is a long
-                    return (long) val;
+                    setValidationLong((long) val);
                 } else {
-                    return val;
+                    setValidationDouble(val);
                 }
+                break;
             default:
-                return null;
+                break;
         }
     }
+
+    private void setValidationLong(long value) {
+        validationForm = long.class;
+        validationLong = value;
+    }
+
+    private void setValidationDouble(double value) {
+        validationForm = double.class;
+        validationDouble = value;
+    }
 }
@@ -8,17 +8,24 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.beans.PropertyDescriptor;
+import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * A configuration object containing rules for reading
@@ -31,19 +38,45 @@ import java.util.function.UnaryOperator;
 public class ReaderConfig<T> {
 
     private Class<T> tClass;
+    private ObjectFactory<T> objectFactory;
     private int titleRowIndex = -1;
     private int dataFromIndex = -1;
+    private int dataToIndex = -1;
+    private int offset;
+    private long limit = Long.MAX_VALUE;
+    private boolean stopAtBlankRow;
+    private boolean fillMergedCells;
+    private boolean keepRawData = true;
     private boolean earlyExit;
+    private int maxErrors = Integer.MAX_VALUE;
+    private int maxErrorsPerRow = Integer.MAX_VALUE;
+    private int errorSampling = 1;
+    private boolean streaming;
+    private boolean useCachedFormulaValues;
+    private int stringCacheSize;
+    private Executor parallelExecutor;
+    private int parallelChunkSize;
+    private Checkpoint resumeCheckpoint;
+    private int checkpointInterval;
+    private Consumer<Checkpoint> checkpointHandle;
 
     private Validator<T> validator;
 
     // Store value as list to stack up multiple handlers on a same column
     private HandlerMap<T> handlerMap = new HandlerMap<>();
+    private List<RowFilter> rowFilters = new ArrayList<>();
+    private List<Lookup<T, ?>> lookups = new ArrayList<>();
 
     private BiConsumer<T, ReaderRow> beforeAddItemHandle;
+    private Consumer<RowError> rowErrorHandle;
 
     ReaderConfig(Class<T> tClass) {
+        this(tClass, ObjectFactory.of(tClass));
+    }
+
+    private ReaderConfig(Class<T> tClass, ObjectFactory<T> objectFactory) {
         this.tClass = tClass;
+        this.objectFactory = objectFactory;
     }
 
     /**
@@ -57,7 +90,7 @@ public class ReaderConfig<T> {
         return new ReaderConfig<>(tClass);
     }
 
-    private Pointer getBaseCoordinate() {
+    Pointer getBaseCoordinate() {
         int baseRow = titleRowIndex >= 0 ? titleRowIndex : dataFromIndex;
         int baseCol = handlerMap.getMinIndex();
         return new Pointer(baseRow, baseCol);
@@ -77,7 +110,7 @@ public class ReaderConfig<T> {
             return this;
         }
 
-        ReaderConfig<T> copy = new ReaderConfig<>(tClass);
+        ReaderConfig<T> copy = new ReaderConfig<>(tClass, objectFactory);
 
         // translate starting point
         if (titleRowIndex >= 0) {
@@ -86,14 +119,38 @@ public class ReaderConfig<T> {
         if (dataFromIndex >= 0) {
             copy.dataFromIndex = dataFromIndex + rowOffset;
         }
+        if (dataToIndex >= 0) {
+            copy.dataToIndex = dataToIndex + rowOffset;
+        }
+        copy.offset = offset;
+        copy.limit = limit;
+        copy.stopAtBlankRow = stopAtBlankRow;
+        copy.fillMergedCells = fillMergedCells;
+        copy.keepRawData = keepRawData;
 
         // translate handler map
         copy.handlerMap = handlerMap.makeCopy();
         copy.handlerMap.shiftIndexMap(colOffset);
+        for (RowFilter filter : rowFilters) {
+            copy.rowFilters.add(filter.shift(colOffset));
+        }
 
         // other data
         copy.earlyExit = earlyExit;
+        copy.maxErrors = maxErrors;
+        copy.maxErrorsPerRow = maxErrorsPerRow;
+        copy.errorSampling = errorSampling;
+        copy.streaming = streaming;
+        copy.useCachedFormulaValues = useCachedFormulaValues;
+        copy.stringCacheSize = stringCacheSize;
+        copy.parallelExecutor = parallelExecutor;
+        copy.parallelChunkSize = parallelChunkSize;
+        copy.resumeCheckpoint = resumeCheckpoint;
+        copy.checkpointInterval = checkpointInterval;
+        copy.checkpointHandle = checkpointHandle;
+        copy.lookups = lookups;
         copy.beforeAddItemHandle = beforeAddItemHandle;
+        copy.rowErrorHandle = rowErrorHandle;
         copy.validator = validator;
         return copy;
     }
@@ -121,11 +178,294 @@ public class ReaderConfig<T> {
         return this;
     }
 
+    /**
+     * Specify the last data row (inclusive). Reading stops there,
+     * so the rest of the sheet is not parsed.
+     *
+     * @param index last data row index
+     * @return current config
+     */
+    public ReaderConfig<T> dataToRow(int index) {
+        this.dataToIndex = index;
+        return this;
+    }
+
+    /**
+     * Skip the first data rows. Skipped rows are neither mapped nor validated.
+     *
+     * @param n number of data rows to skip
+     * @return current config
+     */
+    public ReaderConfig<T> offset(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Offset must not be negative; '" + n + "' found instead.");
+        }
+        this.offset = n;
+        return this;
+    }
+
+    /**
+     * Stop reading once this many items are read, e.g. for previewing a file.
+     * The rest of the sheet is not parsed.
+     *
+     * @param n maximum number of items
+     * @return current config
+     */
+    public ReaderConfig<T> limit(long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Limit must be positive; '" + n + "' found instead.");
+        }
+        this.limit = n;
+        return this;
+    }
+
+    /**
+     * Stop reading at the first blank data row, so that a footer or
+     * another table below the data is not read.
+     *
+     * @return current config
+     */
+    public ReaderConfig<T> stopAtFirstBlankRow() {
+        this.stopAtBlankRow = true;
+        return this;
+    }
+
+    /**
+     * Read every cell covered by a merged region as if it held the value of the region
+     * (the value of its top left cell), e.g. a category merged down several item rows.
+     * Regions are indexed once per sheet. In streaming mode they are listed at the end of
+     * the sheet, so the sheet is scanned one more time beforehand. Only rows present in
+     * the file are filled.
+     *
+     * @param b fill merged cells
+     * @return current config
+     */
+    public ReaderConfig<T> fillMergedCells(boolean b) {
+        this.fillMergedCells = b;
+        return this;
+    }
+
+    /**
+     * Specify whether {@link Result#getRawData()} is filled (default is true).
+     * Turning it off saves a {@link Raw} wrapper per item and skips collecting values of unmapped columns.
+     * Lazy reading via {@link #iterator(InputStream)} never collects raw data.
+     *
+     * @param b keep raw data
+     * @return current config
+     */
+    public ReaderConfig<T> keepRawData(boolean b) {
+        this.keepRawData = b;
+        return this;
+    }
+
+    /**
+     * Resume a reading that failed, skipping every row up to the checkpoint (inclusive).
+     * When reading multiple sheets, sheets before the checkpoint are skipped as well;
+     * the checkpoint does not apply to other sheets. In streaming mode, skipped rows are
+     * not mapped into cells. {@link #offset(int)} is considered done, since the checkpoint
+     * comes after it.
+     *
+     * @param checkpoint checkpoint received from {@link #onCheckpoint(int, Consumer)}
+     * @return current config
+     */
+    public ReaderConfig<T> resumeFrom(Checkpoint checkpoint) {
+        this.resumeCheckpoint = checkpoint;
+        return this;
+    }
+
+    /**
+     * Report a {@link Checkpoint} every time the given number of items have been handed out,
+     * i.e. passed {@link #beforeAddingItem(BiConsumer)} and added to the result.
+     * When reading in batches, a checkpoint is reported after each batch has been consumed instead.
+     * Checkpoints are reported in order, from the reading thread (or the batch consuming thread).
+     *
+     * @param interval number of items between checkpoints
+     * @param handle   receiver of checkpoints, e.g. to persist them
+     * @return current config
+     */
+    public ReaderConfig<T> onCheckpoint(int interval, Consumer<Checkpoint> handle) {
+        Objects.requireNonNull(handle);
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be positive; '" + interval + "' found instead.");
+        }
+        this.checkpointInterval = interval;
+        this.checkpointHandle = handle;
+        return this;
+    }
+
     public ReaderConfig<T> exitWhenValidationFailed(boolean b) {
         this.earlyExit = b;
         return this;
     }
 
+    /**
+     * Limit the number of rows having errors. Once the limit is reached, further rows are
+     * not validated and {@link Result#isErrorLimitReached()} returns true.
+     *
+     * @param max maximum number of {@link RowError}
+     * @return current config
+     */
+    public ReaderConfig<T> maxErrors(int max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("Max errors must be positive; '" + max + "' found instead.");
+        }
+        this.maxErrors = max;
+        return this;
+    }
+
+    /**
+     * Limit the number of field errors recorded for a row. Once the limit is reached,
+     * remaining cells of the row are not validated.
+     *
+     * @param max maximum number of errors per row
+     * @return current config
+     */
+    public ReaderConfig<T> maxErrorsPerRow(int max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("Max errors per row must be positive; '" + max + "' found instead.");
+        }
+        this.maxErrorsPerRow = max;
+        return this;
+    }
+
+    /**
+     * Only keep errors of rows whose index is a multiple of the interval, so that a large file
+     * with many invalid rows does not pile up messages. Every row is still validated: other rows
+     * stop at their first error, which is counted in {@link Result#getSampledOutRows()}, so
+     * {@link Result#hasErrors()} and {@code readSheetOrThrow} still report them. Custom errors
+     * set through {@link ReaderCell#setError(String)} are always kept.
+     *
+     * @param interval one row out of this many is validated (default is 1, every row)
+     * @return current config
+     */
+    public ReaderConfig<T> sampleErrors(int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be positive; '" + interval + "' found instead.");
+        }
+        this.errorSampling = interval;
+        return this;
+    }
+
+    /**
+     * Parse .xlsx and .xls files row by row instead of loading the whole workbook into memory.
+     * Memory usage then stays flat regardless of file size. Since sheets are read through
+     * random access, a byte stream is first copied to a temporary file; pass a {@link File}
+     * or {@link Path} instead to read it in place.
+     * <p>
+     * In this mode, {@link ReaderCell#getPoiCell()} returns a read-only cell that has no
+     * parent sheet, and formula cells are read from their cached values.
+     * Encrypted workbooks and other file formats are still read normally.
+     *
+     * @param b enable streaming
+     * @return current config
+     */
+    public ReaderConfig<T> streaming(boolean b) {
+        this.streaming = b;
+        return this;
+    }
+
+    /**
+     * Create DTO through the constructor whose parameters are the given fields, in the same order.
+     * This allows reading into immutable classes, e.g. classes with an all-arguments constructor.
+     * Records use their canonical constructor without this setting.
+     * <p>
+     * Mapped fields are collected while reading a row, fields without a value receive null
+     * or zero, then the object is created once. Custom handlers from {@link #handler(UnaryOperator)}
+     * receive the object after it is created.
+     *
+     * @param fieldNames field names of constructor parameters
+     * @return current config
+     * @throws IllegalStateException if columns are already mapped, since they were bound to setters
+     */
+    public ReaderConfig<T> constructorArgs(String... fieldNames) {
+        if (!handlerMap.isEmpty()) {
+            throw new IllegalStateException("Constructor arguments must be set before mapping columns");
+        }
+        this.objectFactory = ObjectFactory.ofConstructor(tClass, fieldNames);
+        return this;
+    }
+
+    private Handler<T> bindField(String fieldName) {
+        if (objectFactory.hasArgs()) {
+            int argIndex = objectFactory.indexOf(fieldName);
+            if (argIndex < 0) {
+                return null;
+            }
+            return new Handler<T>()
+                    .field(fieldName)
+                    .wrapConstructorArg(argIndex, objectFactory.getArgType(argIndex));
+        }
+
+        PropertyDescriptor pd = ReflectUtil.getField(fieldName, tClass);
+        if (pd == null) {
+            return null;
+        }
+        return new Handler<T>()
+                .field(fieldName)
+                .wrapHandleField(pd);
+    }
+
+    /**
+     * Read formula cells from the results cached in the file instead of evaluating them.
+     * This is much faster on formula-heavy sheets, but the values are only as recent as
+     * the last time the file was calculated. Streaming mode always uses cached values.
+     *
+     * @param b use cached formula values
+     * @return current config
+     */
+    public ReaderConfig<T> useCachedFormulaValues(boolean b) {
+        this.useCachedFormulaValues = b;
+        return this;
+    }
+
+    /**
+     * Share one instance per distinct string of the shared string table, so that
+     * repeated values such as status codes or country names do not take a new string per cell.
+     * Strings are cached per sheet by their index in the table; once the cache is full,
+     * the least recently used string is evicted.
+     *
+     * @param maxSize maximum number of cached strings per sheet, or 0 to turn off (default)
+     * @return current config
+     */
+    public ReaderConfig<T> dedupStrings(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative; '" + maxSize + "' found instead.");
+        }
+        this.stringCacheSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Map data rows of a sheet in parallel. Rows are still scanned in order on the reading thread,
+     * while chunks of rows are converted, validated and passed to {@link #beforeAddingItem(BiConsumer)}
+     * on the executor. Items and errors keep the same order as reading sequentially.
+     * <p>
+     * Handlers and callbacks of this config may then be invoked concurrently; errors are still
+     * reported to {@link #onRowError(Consumer)} in order on the reading thread. When a row
+     * terminates reading, rows after it are discarded, although some of them may have been mapped.
+     * Lazy reading via {@link #iterator(InputStream)} is not affected.
+     * <p>
+     * POI workbooks are not thread-safe, and evaluating a formula writes its result into the cell.
+     * Formulas of a workbook loaded in memory are therefore evaluated on the reading thread
+     * before their row is handed off, and chunks read the cached results.
+     * <p>
+     * Do not read multiple sheets in parallel on the same bounded executor, as sheet tasks
+     * would wait for chunk tasks queued behind them.
+     *
+     * @param executor  executor to map chunks on, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * @param chunkSize number of rows per chunk
+     * @return current config
+     */
+    public ReaderConfig<T> parallel(Executor executor, int chunkSize) {
+        Objects.requireNonNull(executor);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive; '" + chunkSize + "' found instead.");
+        }
+        this.parallelExecutor = executor;
+        this.parallelChunkSize = chunkSize;
+        return this;
+    }
+
     /**
      * Map the cell value at a column into target field of DTO.
      *
@@ -144,13 +484,10 @@ public class ReaderConfig<T> {
     }
 
     public ReaderConfig<T> column(int index, String fieldName, TypeValidator typeValidator) {
-        PropertyDescriptor pd = ReflectUtil.getField(fieldName, tClass);
-        if (index >= 0 && pd != null) {
-            Handler<T> handler = new Handler<T>()
-                    .atColumn(index)
-                    .field(fieldName)
-                    .wrapHandleField(pd)
-                    .validate(typeValidator);
+        Handler<T> handler = bindField(fieldName);
+        if (index >= 0 && handler != null) {
+            handler.atColumn(index)
+                   .validate(typeValidator);
 
             handlerMap.putAt(index, handler);
         }
@@ -175,17 +512,14 @@ public class ReaderConfig<T> {
     }
 
     public ReaderConfig<T> column(String title, String fieldName, TypeValidator typeValidator) {
-        PropertyDescriptor pd = ReflectUtil.getField(fieldName, tClass);
-        if (title != null && pd != null) {
+        Handler<T> handler = bindField(fieldName);
+        if (title != null && handler != null) {
             if (titleRowIndex < 0) {
                 throw new RuntimeException("Index of title row must be provided through .titleAtRow(int); " +
                                            "'index=" + titleRowIndex + "' found instead.");
             }
-            Handler<T> handler = new Handler<T>()
-                    .atColumn(title)
-                    .field(fieldName)
-                    .wrapHandleField(pd)
-                    .validate(typeValidator);
+            handler.atColumn(title)
+                   .validate(typeValidator);
 
             handlerMap.put(title, handler);
         }
@@ -221,11 +555,84 @@ public class ReaderConfig<T> {
         return this;
     }
 
+    /**
+     * Only read data rows whose cell at a column passes a test. The test runs on the raw cell
+     * before any object is created, any handler runs or any validation is done, so rows that
+     * fail cost little. A missing cell is tested as a blank cell, and all tests must pass.
+     * Rows skipped by {@link #offset(int)} are counted before filtering, while {@link #limit(long)}
+     * counts the rows kept.
+     *
+     * @param index     index of the column (from 0)
+     * @param predicate test of the cell
+     * @return current config
+     */
+    public ReaderConfig<T> where(int index, Predicate<ReaderCell> predicate) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Column index must not be negative; '" + index + "' found instead.");
+        }
+        rowFilters.add(new RowFilter(index, null, Objects.requireNonNull(predicate)));
+        return this;
+    }
+
+    /**
+     * See {@link #where(int, Predicate)}. Reading fails if the title is not found in the title row.
+     *
+     * @param title     title of the column (provide through {@link ReaderConfig#titleAtRow(int)}
+     * @param predicate test of the cell
+     * @return current config
+     */
+    public ReaderConfig<T> where(String title, Predicate<ReaderCell> predicate) {
+        if (titleRowIndex < 0) {
+            throw new RuntimeException("Index of title row must be provided through .titleAtRow(int); " +
+                                       "'index=" + titleRowIndex + "' found instead.");
+        }
+        rowFilters.add(new RowFilter(-1, Objects.requireNonNull(title), Objects.requireNonNull(predicate)));
+        return this;
+    }
+
+    /**
+     * Join each item with a row of another sheet of the same workbook, e.g. order lines with
+     * their product. The lookup sheet is read once with its own config and indexed by key,
+     * from the workbook already opened for the main sheet; its items are not collected,
+     * and its errors are not reported. Each item is then enriched with the lookup item of
+     * the same key before {@link #beforeAddingItem(BiConsumer)} runs; items without match are
+     * left untouched. Keys are compared with {@code equals}, so both sides must produce the same type.
+     * Lookups are not used by {@link #readColumns(InputStream)} and {@link #aggregate(InputStream, Aggregation)}.
+     *
+     * @param sheetName    name of the lookup sheet
+     * @param lookupConfig reading rules of the lookup sheet
+     * @param lookupKey    key of a lookup item
+     * @param foreignKey   key of an item referencing a lookup item
+     * @param enricher     receiver of an item and its lookup item
+     * @param <P>          DTO of the lookup sheet
+     * @return current config
+     */
+    public <P> ReaderConfig<T> lookup(String sheetName, ReaderConfig<P> lookupConfig,
+                                      Function<P, ?> lookupKey, Function<T, ?> foreignKey,
+                                      BiConsumer<T, P> enricher) {
+        lookups.add(new Lookup<>(Objects.requireNonNull(sheetName), Objects.requireNonNull(lookupConfig),
+                                 Objects.requireNonNull(lookupKey), Objects.requireNonNull(foreignKey),
+                                 ReflectUtil.safeWrap(enricher)));
+        return this;
+    }
+
     public ReaderConfig<T> beforeAddingItem(BiConsumer<T, ReaderRow> handler) {
         this.beforeAddItemHandle = ReflectUtil.safeWrap(handler);
         return this;
     }
 
+    /**
+     * Specify a callback that receives errors of each row as soon as that row is read.
+     * This is useful when data is consumed lazily via {@link #stream(InputStream)}.
+     *
+     * @param handler a {@link Consumer} of the finished {@link RowError}
+     * @return current config
+     */
+    public ReaderConfig<T> onRowError(Consumer<RowError> handler) {
+        this.rowErrorHandle = handler;
+        return this;
+    }
+
     public ReaderConfig<T> validator(Validator<T> validator) {
         this.validator = validator;
         return this;
@@ -237,6 +644,28 @@ public class ReaderConfig<T> {
         }
     }
 
+    void handleCheckpoint(Checkpoint checkpoint) {
+        if (checkpointHandle != null) {
+            checkpointHandle.accept(checkpoint);
+        }
+    }
+
+    void handleRowErrors(List<RowError> errors, int fromIndex) {
+        if (rowErrorHandle != null) {
+            for (int i = fromIndex; i < errors.size(); i++) {
+                rowErrorHandle.accept(errors.get(i));
+            }
+        }
+    }
+
+    private WorkbookSource openWorkbook(InputStream stream) {
+        return WorkbookSource.open(stream, streaming, stringCacheSize);
+    }
+
+    private WorkbookSource openWorkbook(File file) {
+        return WorkbookSource.open(file, streaming, stringCacheSize);
+    }
+
     /**
      * Read data from Excel and convert to list of data.
      *
@@ -245,13 +674,7 @@ public class ReaderConfig<T> {
      * @return list of DTO
      */
     public Result<T> readSheet(InputStream stream, int sheetIndex) {
-        Pointer base = getBaseCoordinate();
-        try (Editor editor = new Editor(stream)) {
-            return editor
-                    .goToSheet(sheetIndex)
-                    .goToCell(base.getRow(), base.getCol())
-                    .readSection(this);
-        }
+        return readSheet(openWorkbook(stream), source -> sheetIndex);
     }
 
     /**
@@ -272,142 +695,308 @@ public class ReaderConfig<T> {
      * @return list of DTO
      */
     public Result<T> readSheet(InputStream stream, String sheetName) {
-        Pointer base = getBaseCoordinate();
-        try (Editor editor = new Editor(stream)) {
-            int index = editor.getPoiWorkbook().getSheetIndex(sheetName);
-            return editor
-                    .goToSheet(index)
-                    .goToCell(base.getRow(), base.getCol())
-                    .readSection(this);
-        }
+        return readSheet(openWorkbook(stream), source -> source.getSheetIndex(sheetName));
     }
 
     /**
-     * If no error, read data from Excel and convert to list of data, otherwise throw an exception.
+     * Read data from Excel into columns instead of DTO. Each mapped field becomes a column of
+     * primitive values (or dictionary-encoded strings), see {@link ColumnarResult}.
+     * Validation works as usual; custom handlers and {@link #beforeAddingItem(BiConsumer)}
+     * are ignored since no DTO is created, and rows are always read sequentially.
      *
-     * @param stream            byte stream
-     * @param sheetIndex        index of sheet to read
-     * @param exceptionFunction function that produces an exception to be thrown
-     * @param <X>               type of the exception to be thrown
-     * @return list of DTO
-     * @throws X                    if reading has errors
-     * @throws NullPointerException if reading has errors and the exception supplying function is {@code null}
+     * @param stream     byte stream
+     * @param sheetIndex index of sheet to read
+     * @return columns of mapped fields
      */
-    public <X extends Throwable> List<T> readSheetOrThrow(
-            InputStream stream,
-            int sheetIndex,
-            Function<List<RowError>, ? extends X> exceptionFunction
-    ) throws X {
-        final Result<T> unsafeResult = readSheet(stream, sheetIndex);
-        if (unsafeResult.hasErrors()) {
-            throw exceptionFunction.apply(unsafeResult.getErrors());
-        } else {
-            return unsafeResult;
-        }
+    public ColumnarResult readColumns(InputStream stream, int sheetIndex) {
+        return readColumns(openWorkbook(stream), source -> sheetIndex);
     }
 
     /**
-     * If no error, read data from Excel and convert to list of data, otherwise throw an exception.
+     * Compute totals per group as rows stream by, without creating DTO or keeping rows,
+     * so memory depends on the number of groups only. Values of mapped fields are converted
+     * and validated as usual; custom handlers and {@link #beforeAddingItem(BiConsumer)}
+     * are ignored, and rows are always read sequentially.
      *
-     * @param stream            byte stream
-     * @param exceptionFunction function that produces an exception to be thrown
-     * @param <X>               type of the exception to be thrown
-     * @return list of DTO
-     * @throws X                    if reading has errors
-     * @throws NullPointerException if reading has errors and the exception supplying function is {@code null}
+     * @param stream      byte stream
+     * @param sheetIndex  index of sheet to read
+     * @param aggregation grouping keys and summarized fields
+     * @return groups of rows
      */
-    public <X extends Throwable> List<T> readSheetOrThrow(
-            InputStream stream,
-            Function<List<RowError>, ? extends X> exceptionFunction
-    ) throws X {
-        return readSheetOrThrow(stream, 0, exceptionFunction);
+    public AggregationResult aggregate(InputStream stream, int sheetIndex, Aggregation aggregation) {
+        Objects.requireNonNull(aggregation);
+        return aggregate(openWorkbook(stream), sheetIndex, aggregation);
     }
 
     /**
-     * If no error, read data from Excel and convert to list of data, otherwise throw an exception.
+     * Aggregate the first sheet. See {@link #aggregate(InputStream, int, Aggregation)}.
      *
-     * @param stream            byte stream
-     * @param sheetName         name of sheet to read
-     * @param exceptionFunction function that produces an exception to be thrown
-     * @param <X>               type of the exception to be thrown
-     * @return list of DTO
-     * @throws X                    if reading has errors
-     * @throws NullPointerException if reading has errors and the exception supplying function is {@code null}
+     * @param stream      byte stream
+     * @param aggregation grouping keys and summarized fields
+     * @return groups of rows
      */
-    public <X extends Throwable> List<T> readSheetOrThrow(
-            InputStream stream,
-            String sheetName,
-            Function<List<RowError>, ? extends X> exceptionFunction
-    ) throws X {
-        final Result<T> unsafeResult = readSheet(stream, sheetName);
-        if (unsafeResult.hasErrors()) {
-            throw exceptionFunction.apply(unsafeResult.getErrors());
-        } else {
-            return unsafeResult;
-        }
+    public AggregationResult aggregate(InputStream stream, Aggregation aggregation) {
+        return aggregate(stream, 0, aggregation);
     }
 
     /**
-     * Read data from multiple sheets and convert to a map of list of data.
+     * Read data from the first sheet into columns. See {@link #readColumns(InputStream, int)}.
      *
-     * @param stream       byte stream
-     * @param sheetIndexes indexes of sheet to read
-     * @return map of list of DTO, having key map is the sheet name
+     * @param stream byte stream
+     * @return columns of mapped fields
      */
-    public Map<String, Result<T>> readSheets(InputStream stream, int... sheetIndexes) {
-        Objects.requireNonNull(sheetIndexes);
-
-        Set<Integer> indexes = new HashSet<>();
-        for (int sheetIndex : sheetIndexes) {
-            indexes.add(sheetIndex);
-        }
-
-        Pointer base = getBaseCoordinate();
-        try (Editor editor = new Editor(stream)) {
-            Map<String, Result<T>> result = new LinkedHashMap<>();
-            for (int i = 0; i < editor.getTotalSheets(); i++) {
-                if (!indexes.contains(i)) {
-                    continue;
-                }
-                Result<T> list = editor
-                        .goToSheet(i)
-                        .goToCell(base.getRow(), base.getCol())
-                        .readSection(this);
-                result.put(editor.getSheetName(), list);
-            }
-            return result;
-        }
+    public ColumnarResult readColumns(InputStream stream) {
+        return readColumns(stream, 0);
     }
 
     /**
-     * Read data from multiple sheets and convert to a map of list of data.
+     * Read data from a sheet into columns. See {@link #readColumns(InputStream, int)}.
      *
-     * @param stream     byte stream
-     * @param sheetNames indexes of sheet to read
-     * @return map of list of DTO, having key map is the sheet name
-     */
-    public Map<String, Result<T>> readSheets(InputStream stream, String... sheetNames) {
-        Objects.requireNonNull(sheetNames);
-        Set<String> names = new HashSet<>(Arrays.asList(sheetNames));
+     * @param stream    byte stream
+     * @param sheetName name of sheet to read
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(InputStream stream, String sheetName) {
+        return readColumns(openWorkbook(stream), source -> source.getSheetIndex(sheetName));
+    }
 
-        Pointer base = getBaseCoordinate();
-        try (Editor editor = new Editor(stream)) {
-            Map<String, Result<T>> result = new LinkedHashMap<>();
-            for (String name : names) {
-                int i = editor.getPoiWorkbook().getSheetIndex(name);
-                if (i < 0) {
-                    continue;
-                }
-                Result<T> list = editor
-                        .goToSheet(i)
-                        .goToCell(base.getRow(), base.getCol())
-                        .readSection(this);
-                result.put(editor.getSheetName(), list);
-            }
-            return result;
+    /**
+     * Read data from Excel and hand off mapped items in batches as soon as each batch is full.
+     * Every batch is a {@link Result} holding its items and the errors of rows read since the
+     * previous batch, so that the whole sheet never needs to be kept in memory.
+     * <p>
+     * Inside {@link #beforeAddingItem(BiConsumer)}, {@link ReaderRow#getErrors()} only
+     * returns errors of the current batch.
+     *
+     * @param stream     byte stream
+     * @param sheetIndex index of sheet to read
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches, called on the reading thread
+     */
+    public void readSheet(InputStream stream, int sheetIndex, int batchSize, Consumer<Result<T>> consumer) {
+        readSheet(stream, sheetIndex, batchSize, consumer, null);
+    }
+
+    /**
+     * Read data from the first sheet and hand off mapped items in batches.
+     * See {@link #readSheet(InputStream, int, int, Consumer)}.
+     *
+     * @param stream    byte stream
+     * @param batchSize maximum number of items per batch
+     * @param consumer  receiver of batches, called on the reading thread
+     */
+    public void readSheet(InputStream stream, int batchSize, Consumer<Result<T>> consumer) {
+        readSheet(stream, 0, batchSize, consumer, null);
+    }
+
+    /**
+     * Read data from Excel and hand off mapped items in batches, consuming each batch on
+     * the given executor while the next one is being read. At most one batch is consumed
+     * at a time; the method returns after the last batch is consumed.
+     * See {@link #readSheet(InputStream, int, int, Consumer)}.
+     *
+     * @param stream     byte stream
+     * @param sheetIndex index of sheet to read
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches
+     * @param executor   executor to run the consumer
+     */
+    public void readSheet(InputStream stream, int sheetIndex, int batchSize,
+                          Consumer<Result<T>> consumer, Executor executor) {
+        Objects.requireNonNull(consumer);
+        readBatches(openWorkbook(stream), sheetIndex, batchSize, consumer, executor);
+    }
+
+    /**
+     * Lazily read data from Excel, mapping each row only when it is requested.
+     * Mapped items are not kept in memory; errors are collected by the iterator,
+     * or can be received right away via {@link #onRowError(Consumer)}.
+     * <p>
+     * The iterator must be closed if it is not fully consumed.
+     *
+     * @param stream     byte stream
+     * @param sheetIndex index of sheet to read
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(InputStream stream, int sheetIndex) {
+        return iterator(openWorkbook(stream), source -> sheetIndex);
+    }
+
+    /**
+     * Lazily read data from the first sheet. See {@link #iterator(InputStream, int)}.
+     *
+     * @param stream byte stream
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(InputStream stream) {
+        return iterator(stream, 0);
+    }
+
+    /**
+     * Lazily read data from a sheet. See {@link #iterator(InputStream, int)}.
+     *
+     * @param stream    byte stream
+     * @param sheetName name of sheet to read
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(InputStream stream, String sheetName) {
+        return iterator(openWorkbook(stream), source -> source.getSheetIndex(sheetName));
+    }
+
+    /**
+     * Lazily read data from Excel as a {@link Stream}. The stream should be closed
+     * (e.g. with try-with-resources) if it is not fully consumed.
+     *
+     * @param stream     byte stream
+     * @param sheetIndex index of sheet to read
+     * @return stream of DTO
+     */
+    public Stream<T> stream(InputStream stream, int sheetIndex) {
+        return iterator(stream, sheetIndex).stream();
+    }
+
+    /**
+     * Lazily read data from the first sheet as a {@link Stream}.
+     *
+     * @param stream byte stream
+     * @return stream of DTO
+     */
+    public Stream<T> stream(InputStream stream) {
+        return stream(stream, 0);
+    }
+
+    /**
+     * Lazily read data from a sheet as a {@link Stream}.
+     *
+     * @param stream    byte stream
+     * @param sheetName name of sheet to read
+     * @return stream of DTO
+     */
+    public Stream<T> stream(InputStream stream, String sheetName) {
+        return iterator(stream, sheetName).stream();
+    }
+
+    /**
+     * If no error, read data from Excel and convert to list of data, otherwise throw an exception.
+     *
+     * @param stream            byte stream
+     * @param sheetIndex        index of sheet to read
+     * @param exceptionFunction function that produces an exception to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return list of DTO
+     * @throws X                    if reading has errors
+     * @throws NullPointerException if reading has errors and the exception supplying function is {@code null}
+     */
+    public <X extends Throwable> List<T> readSheetOrThrow(
+            InputStream stream,
+            int sheetIndex,
+            Function<List<RowError>, ? extends X> exceptionFunction
+    ) throws X {
+        final Result<T> unsafeResult = readSheet(stream, sheetIndex);
+        if (unsafeResult.hasErrors()) {
+            throw exceptionFunction.apply(unsafeResult.getErrors());
+        } else {
+            return unsafeResult;
         }
     }
 
+    /**
+     * If no error, read data from Excel and convert to list of data, otherwise throw an exception.
+     *
+     * @param stream            byte stream
+     * @param exceptionFunction function that produces an exception to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return list of DTO
+     * @throws X                    if reading has errors
+     * @throws NullPointerException if reading has errors and the exception supplying function is {@code null}
+     */
+    public <X extends Throwable> List<T> readSheetOrThrow(
+            InputStream stream,
+            Function<List<RowError>, ? extends X> exceptionFunction
+    ) throws X {
+        return readSheetOrThrow(stream, 0, exceptionFunction);
+    }
+
+    /**
+     * If no error, read data from Excel and convert to list of data, otherwise throw an exception.
+     *
+     * @param stream            byte stream
+     * @param sheetName         name of sheet to read
+     * @param exceptionFunction function that produces an exception to be thrown
+     * @param <X>               type of the exception to be thrown
+     * @return list of DTO
+     * @throws X                    if reading has errors
+     * @throws NullPointerException if reading has errors and the exception supplying function is {@code null}
+     */
+    public <X extends Throwable> List<T> readSheetOrThrow(
+            InputStream stream,
+            String sheetName,
+            Function<List<RowError>, ? extends X> exceptionFunction
+    ) throws X {
+        final Result<T> unsafeResult = readSheet(stream, sheetName);
+        if (unsafeResult.hasErrors()) {
+            throw exceptionFunction.apply(unsafeResult.getErrors());
+        } else {
+            return unsafeResult;
+        }
+    }
+
+    /**
+     * Read data from multiple sheets and convert to a map of list of data.
+     *
+     * @param stream       byte stream
+     * @param sheetIndexes indexes of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(InputStream stream, int... sheetIndexes) {
+        return readSheets(stream, null, sheetIndexes);
+    }
+
+    /**
+     * Read data from multiple sheets in parallel, each sheet on its own task of the executor.
+     * Each sheet has its own {@link Result} and errors, and the map keeps the sheet order.
+     * <p>
+     * Handlers and callbacks of this config may be invoked concurrently.
+     * Streaming mode ({@link #streaming(boolean)}) is recommended since sheets are then
+     * parsed independently. Otherwise the loaded workbook is shared between tasks, so lookup sheets
+     * are indexed and formulas of the sheets are evaluated on the calling thread first; tasks then
+     * read cached formula results and never write into the workbook.
+     *
+     * @param stream       byte stream
+     * @param executor     executor to read sheets on, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * @param sheetIndexes indexes of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(InputStream stream, Executor executor, int... sheetIndexes) {
+        Objects.requireNonNull(sheetIndexes);
+        return readSheets(openWorkbook(stream), source -> findSheets(source, sheetIndexes), executor);
+    }
+
+    /**
+     * Read data from multiple sheets and convert to a map of list of data.
+     *
+     * @param stream     byte stream
+     * @param sheetNames names of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(InputStream stream, String... sheetNames) {
+        return readSheets(stream, null, sheetNames);
+    }
+
+    /**
+     * Read data from multiple sheets in parallel.
+     * See {@link #readSheets(InputStream, Executor, int...)}.
+     *
+     * @param stream     byte stream
+     * @param executor   executor to read sheets on
+     * @param sheetNames names of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(InputStream stream, Executor executor, String... sheetNames) {
+        Objects.requireNonNull(sheetNames);
+        return readSheets(openWorkbook(stream), source -> findSheets(source, sheetNames), executor);
+    }
+
     /**
      * Read data from all sheets and convert to a map of list of data.
      *
@@ -415,17 +1004,629 @@ public class ReaderConfig<T> {
      * @return map of list of DTO, having key map is the sheet name
      */
     public Map<String, Result<T>> readAllSheets(InputStream stream) {
-        Pointer base = getBaseCoordinate();
-        try (Editor editor = new Editor(stream)) {
-            Map<String, Result<T>> result = new LinkedHashMap<>();
-            for (int i = 0; i < editor.getTotalSheets(); i++) {
-                Result<T> list = editor
-                        .goToSheet(i)
-                        .goToCell(base.getRow(), base.getCol())
-                        .readSection(this);
-                result.put(editor.getSheetName(), list);
+        return readAllSheets(stream, null);
+    }
+
+    /**
+     * Read data from all sheets in parallel.
+     * See {@link #readSheets(InputStream, Executor, int...)}.
+     *
+     * @param stream   byte stream
+     * @param executor executor to read sheets on
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readAllSheets(InputStream stream, Executor executor) {
+        return readSheets(openWorkbook(stream), ReaderConfig::allSheets, executor);
+    }
+
+    /**
+     * Read data from an Excel file and convert to list of data. The file is opened read-only
+     * with random access, so it is not buffered into memory before reading.
+     *
+     * @param file       excel file
+     * @param sheetIndex index of sheet to read
+     * @return list of DTO
+     */
+    public Result<T> readSheet(File file, int sheetIndex) {
+        return readSheet(openWorkbook(file), source -> sheetIndex);
+    }
+
+    /**
+     * Read data from the first sheet of an Excel file. See {@link #readSheet(File, int)}.
+     *
+     * @param file excel file
+     * @return list of DTO
+     */
+    public Result<T> readSheet(File file) {
+        return readSheet(file, 0);
+    }
+
+    /**
+     * Read data from a sheet of an Excel file. See {@link #readSheet(File, int)}.
+     *
+     * @param file      excel file
+     * @param sheetName name of sheet to read
+     * @return list of DTO
+     */
+    public Result<T> readSheet(File file, String sheetName) {
+        return readSheet(openWorkbook(file), source -> source.getSheetIndex(sheetName));
+    }
+
+    /**
+     * Read data from an Excel file into columns. See {@link #readColumns(InputStream, int)}.
+     *
+     * @param file       excel file
+     * @param sheetIndex index of sheet to read
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(File file, int sheetIndex) {
+        return readColumns(openWorkbook(file), source -> sheetIndex);
+    }
+
+    /**
+     * Read data from the first sheet of an Excel file into columns.
+     * See {@link #readColumns(InputStream, int)}.
+     *
+     * @param file excel file
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(File file) {
+        return readColumns(file, 0);
+    }
+
+    /**
+     * Read data from a sheet of an Excel file into columns.
+     * See {@link #readColumns(InputStream, int)}.
+     *
+     * @param file      excel file
+     * @param sheetName name of sheet to read
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(File file, String sheetName) {
+        return readColumns(openWorkbook(file), source -> source.getSheetIndex(sheetName));
+    }
+
+    /**
+     * Compute totals per group of an Excel file. See {@link #aggregate(InputStream, int, Aggregation)}.
+     *
+     * @param file        excel file
+     * @param sheetIndex  index of sheet to read
+     * @param aggregation grouping keys and summarized fields
+     * @return groups of rows
+     */
+    public AggregationResult aggregate(File file, int sheetIndex, Aggregation aggregation) {
+        Objects.requireNonNull(aggregation);
+        return aggregate(openWorkbook(file), sheetIndex, aggregation);
+    }
+
+    /**
+     * Aggregate the first sheet of an Excel file. See {@link #aggregate(InputStream, int, Aggregation)}.
+     *
+     * @param file        excel file
+     * @param aggregation grouping keys and summarized fields
+     * @return groups of rows
+     */
+    public AggregationResult aggregate(File file, Aggregation aggregation) {
+        return aggregate(file, 0, aggregation);
+    }
+
+    /**
+     * Read data from an Excel file and hand off mapped items in batches.
+     * See {@link #readSheet(InputStream, int, int, Consumer)}.
+     *
+     * @param file       excel file
+     * @param sheetIndex index of sheet to read
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches, called on the reading thread
+     */
+    public void readSheet(File file, int sheetIndex, int batchSize, Consumer<Result<T>> consumer) {
+        readSheet(file, sheetIndex, batchSize, consumer, null);
+    }
+
+    /**
+     * Read data from the first sheet of an Excel file and hand off mapped items in batches.
+     * See {@link #readSheet(InputStream, int, int, Consumer)}.
+     *
+     * @param file      excel file
+     * @param batchSize maximum number of items per batch
+     * @param consumer  receiver of batches, called on the reading thread
+     */
+    public void readSheet(File file, int batchSize, Consumer<Result<T>> consumer) {
+        readSheet(file, 0, batchSize, consumer, null);
+    }
+
+    /**
+     * Read data from an Excel file and consume batches on the given executor.
+     * See {@link #readSheet(InputStream, int, int, Consumer, Executor)}.
+     *
+     * @param file       excel file
+     * @param sheetIndex index of sheet to read
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches
+     * @param executor   executor to run the consumer
+     */
+    public void readSheet(File file, int sheetIndex, int batchSize,
+                          Consumer<Result<T>> consumer, Executor executor) {
+        Objects.requireNonNull(consumer);
+        readBatches(openWorkbook(file), sheetIndex, batchSize, consumer, executor);
+    }
+
+    /**
+     * Lazily read data from an Excel file. See {@link #iterator(InputStream, int)}.
+     *
+     * @param file       excel file
+     * @param sheetIndex index of sheet to read
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(File file, int sheetIndex) {
+        return iterator(openWorkbook(file), source -> sheetIndex);
+    }
+
+    /**
+     * Lazily read data from the first sheet of an Excel file. See {@link #iterator(InputStream, int)}.
+     *
+     * @param file excel file
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(File file) {
+        return iterator(file, 0);
+    }
+
+    /**
+     * Lazily read data from a sheet of an Excel file. See {@link #iterator(InputStream, int)}.
+     *
+     * @param file      excel file
+     * @param sheetName name of sheet to read
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(File file, String sheetName) {
+        return iterator(openWorkbook(file), source -> source.getSheetIndex(sheetName));
+    }
+
+    /**
+     * Lazily read data from an Excel file as a {@link Stream}. See {@link #stream(InputStream, int)}.
+     *
+     * @param file       excel file
+     * @param sheetIndex index of sheet to read
+     * @return stream of DTO
+     */
+    public Stream<T> stream(File file, int sheetIndex) {
+        return iterator(file, sheetIndex).stream();
+    }
+
+    /**
+     * Lazily read data from the first sheet of an Excel file as a {@link Stream}.
+     *
+     * @param file excel file
+     * @return stream of DTO
+     */
+    public Stream<T> stream(File file) {
+        return stream(file, 0);
+    }
+
+    /**
+     * Lazily read data from a sheet of an Excel file as a {@link Stream}.
+     *
+     * @param file      excel file
+     * @param sheetName name of sheet to read
+     * @return stream of DTO
+     */
+    public Stream<T> stream(File file, String sheetName) {
+        return iterator(file, sheetName).stream();
+    }
+
+    /**
+     * Read data from multiple sheets of an Excel file. See {@link #readSheets(InputStream, int...)}.
+     *
+     * @param file         excel file
+     * @param sheetIndexes indexes of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(File file, int... sheetIndexes) {
+        return readSheets(file, null, sheetIndexes);
+    }
+
+    /**
+     * Read data from multiple sheets of an Excel file in parallel.
+     * See {@link #readSheets(InputStream, Executor, int...)}.
+     *
+     * @param file         excel file
+     * @param executor     executor to read sheets on
+     * @param sheetIndexes indexes of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(File file, Executor executor, int... sheetIndexes) {
+        Objects.requireNonNull(sheetIndexes);
+        return readSheets(openWorkbook(file), source -> findSheets(source, sheetIndexes), executor);
+    }
+
+    /**
+     * Read data from multiple sheets of an Excel file. See {@link #readSheets(InputStream, String...)}.
+     *
+     * @param file       excel file
+     * @param sheetNames names of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(File file, String... sheetNames) {
+        return readSheets(file, null, sheetNames);
+    }
+
+    /**
+     * Read data from multiple sheets of an Excel file in parallel.
+     * See {@link #readSheets(InputStream, Executor, int...)}.
+     *
+     * @param file       excel file
+     * @param executor   executor to read sheets on
+     * @param sheetNames names of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(File file, Executor executor, String... sheetNames) {
+        Objects.requireNonNull(sheetNames);
+        return readSheets(openWorkbook(file), source -> findSheets(source, sheetNames), executor);
+    }
+
+    /**
+     * Read data from all sheets of an Excel file.
+     *
+     * @param file excel file
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readAllSheets(File file) {
+        return readAllSheets(file, null);
+    }
+
+    /**
+     * Read data from all sheets of an Excel file in parallel.
+     * See {@link #readSheets(InputStream, Executor, int...)}.
+     *
+     * @param file     excel file
+     * @param executor executor to read sheets on
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readAllSheets(File file, Executor executor) {
+        return readSheets(openWorkbook(file), ReaderConfig::allSheets, executor);
+    }
+
+    /**
+     * See {@link #readSheet(File, int)}.
+     *
+     * @param path       excel file
+     * @param sheetIndex index of sheet to read
+     * @return list of DTO
+     */
+    public Result<T> readSheet(Path path, int sheetIndex) {
+        return readSheet(path.toFile(), sheetIndex);
+    }
+
+    /**
+     * See {@link #readSheet(File)}.
+     *
+     * @param path excel file
+     * @return list of DTO
+     */
+    public Result<T> readSheet(Path path) {
+        return readSheet(path.toFile());
+    }
+
+    /**
+     * See {@link #readSheet(File, String)}.
+     *
+     * @param path      excel file
+     * @param sheetName name of sheet to read
+     * @return list of DTO
+     */
+    public Result<T> readSheet(Path path, String sheetName) {
+        return readSheet(path.toFile(), sheetName);
+    }
+
+    /**
+     * See {@link #readColumns(File, int)}.
+     *
+     * @param path       excel file
+     * @param sheetIndex index of sheet to read
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(Path path, int sheetIndex) {
+        return readColumns(path.toFile(), sheetIndex);
+    }
+
+    /**
+     * See {@link #readColumns(File)}.
+     *
+     * @param path excel file
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(Path path) {
+        return readColumns(path.toFile());
+    }
+
+    /**
+     * See {@link #readColumns(File, String)}.
+     *
+     * @param path      excel file
+     * @param sheetName name of sheet to read
+     * @return columns of mapped fields
+     */
+    public ColumnarResult readColumns(Path path, String sheetName) {
+        return readColumns(path.toFile(), sheetName);
+    }
+
+    /**
+     * See {@link #aggregate(File, int, Aggregation)}.
+     *
+     * @param path        excel file
+     * @param sheetIndex  index of sheet to read
+     * @param aggregation grouping keys and summarized fields
+     * @return groups of rows
+     */
+    public AggregationResult aggregate(Path path, int sheetIndex, Aggregation aggregation) {
+        return aggregate(path.toFile(), sheetIndex, aggregation);
+    }
+
+    /**
+     * See {@link #aggregate(File, Aggregation)}.
+     *
+     * @param path        excel file
+     * @param aggregation grouping keys and summarized fields
+     * @return groups of rows
+     */
+    public AggregationResult aggregate(Path path, Aggregation aggregation) {
+        return aggregate(path.toFile(), aggregation);
+    }
+
+    /**
+     * See {@link #readSheet(File, int, int, Consumer)}.
+     *
+     * @param path       excel file
+     * @param sheetIndex index of sheet to read
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches, called on the reading thread
+     */
+    public void readSheet(Path path, int sheetIndex, int batchSize, Consumer<Result<T>> consumer) {
+        readSheet(path.toFile(), sheetIndex, batchSize, consumer);
+    }
+
+    /**
+     * See {@link #readSheet(File, int, Consumer)}.
+     *
+     * @param path      excel file
+     * @param batchSize maximum number of items per batch
+     * @param consumer  receiver of batches, called on the reading thread
+     */
+    public void readSheet(Path path, int batchSize, Consumer<Result<T>> consumer) {
+        readSheet(path.toFile(), batchSize, consumer);
+    }
+
+    /**
+     * See {@link #readSheet(File, int, int, Consumer, Executor)}.
+     *
+     * @param path       excel file
+     * @param sheetIndex index of sheet to read
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches
+     * @param executor   executor to run the consumer
+     */
+    public void readSheet(Path path, int sheetIndex, int batchSize,
+                          Consumer<Result<T>> consumer, Executor executor) {
+        readSheet(path.toFile(), sheetIndex, batchSize, consumer, executor);
+    }
+
+    /**
+     * See {@link #iterator(File, int)}.
+     *
+     * @param path       excel file
+     * @param sheetIndex index of sheet to read
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(Path path, int sheetIndex) {
+        return iterator(path.toFile(), sheetIndex);
+    }
+
+    /**
+     * See {@link #iterator(File)}.
+     *
+     * @param path excel file
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(Path path) {
+        return iterator(path.toFile());
+    }
+
+    /**
+     * See {@link #iterator(File, String)}.
+     *
+     * @param path      excel file
+     * @param sheetName name of sheet to read
+     * @return iterator of DTO
+     */
+    public ReaderIterator<T> iterator(Path path, String sheetName) {
+        return iterator(path.toFile(), sheetName);
+    }
+
+    /**
+     * See {@link #stream(File, int)}.
+     *
+     * @param path       excel file
+     * @param sheetIndex index of sheet to read
+     * @return stream of DTO
+     */
+    public Stream<T> stream(Path path, int sheetIndex) {
+        return stream(path.toFile(), sheetIndex);
+    }
+
+    /**
+     * See {@link #stream(File)}.
+     *
+     * @param path excel file
+     * @return stream of DTO
+     */
+    public Stream<T> stream(Path path) {
+        return stream(path.toFile());
+    }
+
+    /**
+     * See {@link #stream(File, String)}.
+     *
+     * @param path      excel file
+     * @param sheetName name of sheet to read
+     * @return stream of DTO
+     */
+    public Stream<T> stream(Path path, String sheetName) {
+        return stream(path.toFile(), sheetName);
+    }
+
+    /**
+     * See {@link #readSheets(File, int...)}.
+     *
+     * @param path         excel file
+     * @param sheetIndexes indexes of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(Path path, int... sheetIndexes) {
+        return readSheets(path.toFile(), sheetIndexes);
+    }
+
+    /**
+     * See {@link #readSheets(File, Executor, int...)}.
+     *
+     * @param path         excel file
+     * @param executor     executor to read sheets on
+     * @param sheetIndexes indexes of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(Path path, Executor executor, int... sheetIndexes) {
+        return readSheets(path.toFile(), executor, sheetIndexes);
+    }
+
+    /**
+     * See {@link #readSheets(File, String...)}.
+     *
+     * @param path       excel file
+     * @param sheetNames names of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(Path path, String... sheetNames) {
+        return readSheets(path.toFile(), sheetNames);
+    }
+
+    /**
+     * See {@link #readSheets(File, Executor, String...)}.
+     *
+     * @param path       excel file
+     * @param executor   executor to read sheets on
+     * @param sheetNames names of sheet to read
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readSheets(Path path, Executor executor, String... sheetNames) {
+        return readSheets(path.toFile(), executor, sheetNames);
+    }
+
+    /**
+     * See {@link #readAllSheets(File)}.
+     *
+     * @param path excel file
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readAllSheets(Path path) {
+        return readAllSheets(path.toFile());
+    }
+
+    /**
+     * See {@link #readAllSheets(File, Executor)}.
+     *
+     * @param path     excel file
+     * @param executor executor to read sheets on
+     * @return map of list of DTO, having key map is the sheet name
+     */
+    public Map<String, Result<T>> readAllSheets(Path path, Executor executor) {
+        return readAllSheets(path.toFile(), executor);
+    }
+
+    /**
+     * The iterator owns the workbook, which is closed here if the iterator cannot be created.
+     */
+    private ReaderIterator<T> iterator(WorkbookSource source, ToIntFunction<WorkbookSource> sheetIndex) {
+        try {
+            Pointer base = getBaseCoordinate();
+            return new ReaderIterator<>(source, sheetIndex.applyAsInt(source), this, base.getRow(), base.getCol());
+        } catch (RuntimeException e) {
+            source.close();
+            throw e;
+        }
+    }
+
+    // readings below own the workbook they are given, and close it when done
+
+    private Result<T> readSheet(WorkbookSource source, ToIntFunction<WorkbookSource> sheetIndex) {
+        try (WorkbookSource opened = source) {
+            Pointer base = getBaseCoordinate();
+            return opened.readSection(sheetIndex.applyAsInt(opened), this, base.getRow(), base.getCol());
+        }
+    }
+
+    private ColumnarResult readColumns(WorkbookSource source, ToIntFunction<WorkbookSource> sheetIndex) {
+        try (WorkbookSource opened = source) {
+            Pointer base = getBaseCoordinate();
+            return opened.readColumns(sheetIndex.applyAsInt(opened), this, base.getRow(), base.getCol());
+        }
+    }
+
+    private AggregationResult aggregate(WorkbookSource source, int sheetIndex, Aggregation aggregation) {
+        try (WorkbookSource opened = source) {
+            Pointer base = getBaseCoordinate();
+            return opened.aggregate(sheetIndex, this, base.getRow(), base.getCol(), aggregation);
+        }
+    }
+
+    private void readBatches(WorkbookSource source, int sheetIndex, int batchSize,
+                             Consumer<Result<T>> consumer, Executor executor) {
+        try (WorkbookSource opened = source) {
+            Pointer base = getBaseCoordinate();
+            opened.readBatches(sheetIndex, this, base.getRow(), base.getCol(), batchSize, consumer, executor);
+        }
+    }
+
+    private Map<String, Result<T>> readSheets(WorkbookSource source,
+                                              Function<WorkbookSource, List<Integer>> sheetIndexes,
+                                              Executor executor) {
+        try (WorkbookSource opened = source) {
+            Pointer base = getBaseCoordinate();
+            return opened.readSections(sheetIndexes.apply(opened), this, base.getRow(), base.getCol(), executor);
+        }
+    }
+
+    private static List<Integer> findSheets(WorkbookSource source, int... sheetIndexes) {
+        Set<Integer> indexes = new HashSet<>();
+        for (int sheetIndex : sheetIndexes) {
+            indexes.add(sheetIndex);
+        }
+
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < source.getTotalSheets(); i++) {
+            if (indexes.contains(i)) {
+                targets.add(i);
             }
-            return result;
         }
+        return targets;
+    }
+
+    private static List<Integer> findSheets(WorkbookSource source, String... sheetNames) {
+        Set<String> names = new HashSet<>(Arrays.asList(sheetNames));
+
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < source.getTotalSheets(); i++) {
+            if (names.contains(source.getSheetName(i))) {
+                targets.add(i);
+            }
+        }
+        return targets;
+    }
+
+    private static List<Integer> allSheets(WorkbookSource source) {
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < source.getTotalSheets(); i++) {
+            targets.add(i);
+        }
+        return targets;
     }
 }
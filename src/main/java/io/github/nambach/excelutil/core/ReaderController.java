@@ -21,6 +21,18 @@ public abstract class ReaderController {
         this.result = result;
     }
 
+    ReaderController(ReaderController other) {
+        this.isEarlyExit = other.isEarlyExit;
+        this.result = other.result;
+    }
+
+    /**
+     * Clear the termination request before the controller is re-pointed.
+     */
+    void reset() {
+        this.isExitNow = false;
+    }
+
     public boolean hasError() {
         return result.hasErrors();
     }
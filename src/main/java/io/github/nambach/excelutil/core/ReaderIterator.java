@@ -0,0 +1,103 @@
+package io.github.nambach.excelutil.core;
+
+import io.github.nambach.excelutil.util.CloseableIterator;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily map rows of a sheet into DTO, one row at a time.
+ * Mapped items are handed out and never stored; only errors are kept.
+ * The underlying workbook is closed once all rows are consumed,
+ * reading is terminated, or {@link #close()} is called.
+ *
+ * @param <T> DTO
+ */
+public class ReaderIterator<T> implements CloseableIterator<T> {
+    private final WorkbookSource source;
+    private final WorkbookSource.SheetRows rows;
+    private final ReaderSession<T> session;
+
+    private T next;
+    private boolean hasNext;
+    private boolean hasRows;
+    private boolean closed;
+
+    ReaderIterator(WorkbookSource source, int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt) {
+        this.source = source;
+        this.session = new ReaderSession<>(config, rowAt, colAt);
+        this.session.dropRawData();
+        this.session.setSink(raw -> {
+            next = raw.getData();
+            hasNext = true;
+        });
+        this.rows = source.openSheet(sheetIndex, session);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!hasNext && !closed) {
+            if (!rows.hasNext()) {
+                close();
+                session.finish(hasRows);
+                break;
+            }
+            hasRows = true;
+            if (!session.accept(rows.next())) {
+                close();
+            }
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = next;
+        next = null;
+        hasNext = false;
+        return item;
+    }
+
+    /**
+     * @return errors found so far
+     */
+    public List<RowError> getErrors() {
+        return session.getResult().getErrors();
+    }
+
+    public boolean hasErrors() {
+        return session.getResult().hasErrors();
+    }
+
+    public boolean noError() {
+        return session.getResult().noError();
+    }
+
+    /**
+     * @return a sequential {@link Stream} backed by this iterator; closing the stream closes the iterator.
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            rows.close();
+        } finally {
+            source.close();
+        }
+    }
+}
@@ -4,8 +4,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.poi.ss.usermodel.Row;
 
+/**
+ * Contains information of the current read row. The same instance is re-pointed at
+ * each row during a reading; use {@link #snapshot()} to keep a reference to a row.
+ */
 public class ReaderRow extends ReaderController {
-    private final Row row;
+    private Row row;
 
     @Getter(AccessLevel.PACKAGE)
     private boolean skipThisObject;
@@ -15,6 +19,35 @@ public class ReaderRow extends ReaderController {
         this.row = row;
     }
 
+    private ReaderRow(ReaderRow other) {
+        super(other);
+        this.row = other.row;
+    }
+
+    /**
+     * Move to another row.
+     */
+    ReaderRow point(Row row) {
+        this.row = row;
+        this.skipThisObject = false;
+        reset();
+        return this;
+    }
+
+    /**
+     * @return a copy bound to the current row, which stays valid after reading moves on.
+     */
+    public ReaderRow snapshot() {
+        return new ReaderRow(this);
+    }
+
+    /**
+     * @return the current row index.
+     */
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
     public void skipThisObject() {
         this.skipThisObject = true;
     }
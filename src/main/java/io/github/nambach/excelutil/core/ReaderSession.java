@@ -0,0 +1,881 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * State of reading one table section of a sheet. Rows are pushed in
+ * ascending order, regardless of whether they come from a POI sheet
+ * or from a streaming parser.
+ *
+ * @param <T> DTO
+ */
+class ReaderSession<T> {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ReaderConfig<T> config;
+    @Getter(AccessLevel.PACKAGE)
+    private final Result<T> result;
+    private final HandlerMap<T> handlerMap;
+    private final Map<Integer, String> titleMap = new HashMap<>();
+    private final int colAt;
+    private final int titleRowIndex;
+    private final int dataRowIndex;
+    private final int lastDataRowIndex;
+    private final long limit;
+    private Consumer<Raw<T>> sink;
+    // whether raw data are collected; otherwise a single Raw is reused when possible
+    private boolean keepRawData;
+    private Raw<T> sharedRaw;
+    private ColumnPlan<T> plan;
+    // columns and tests of row filters, resolved with the plan
+    private int[] filterColumns;
+    private String[] filterTitles;
+    private Predicate<ReaderCell>[] filterTests;
+    // tested in place of missing cells, moved to the current row; not shared with forks
+    private StreamingRow blankRow;
+    private Cell[] blankCells;
+    private WorkbookSource.SheetRows rows;
+    private MergedCells mergedCells;
+    // lookup sheets joined to each item, indexed before the first row
+    private List<Consumer<T>> enrichers = Collections.emptyList();
+    private final ReadContext context;
+    // re-pointed at each cell and row instead of allocating wrappers per cell
+    private final ReaderCell cellCursor;
+    private final ReaderRow rowCursor;
+    private final List<BiConsumer<T, ReaderCell>> pendingHandles = new ArrayList<>();
+    private final List<ReaderCell> pendingCells = new ArrayList<>();
+    // columnar mode only: target column of each handler, per column of the plan
+    private ColumnarResult columnar;
+    private Map<ColumnPlan.Column<T>, ColumnarResult.Column[]> targets;
+    // aggregation mode only: where values of each handler go, per column of the plan
+    private AggregationResult aggregation;
+    private Map<ColumnPlan.Column<T>, AggregationResult.Slot[]> slots;
+
+    @Getter(AccessLevel.PACKAGE)
+    private int sheetIndex = -1;
+    // rows up to this index were read by a previous reading
+    private int resumeRowIndex = -1;
+    private int checkpointInterval;
+
+    private boolean titleRead;
+    private int previousRowIndex = -1;
+    private int skippedRows;
+    private long emitted;
+    // errors of the row being read from this index are still to be reported, or -1
+    private int rowErrorsFrom = -1;
+    // no more data rows to read, while rows already read are still to be mapped
+    private boolean endOfData;
+    @Getter(AccessLevel.PACKAGE)
+    private boolean terminated;
+
+    ReaderSession(ReaderConfig<T> baseConfig, int rowAt, int colAt) {
+        // translate the original config to target coordinate
+        this.config = baseConfig.translate(rowAt, colAt);
+        this.result = new Result<>(baseConfig.getTClass());
+        this.result.limitErrors(config.getMaxErrors(), config.getMaxErrorsPerRow(), config.getErrorSampling());
+        this.handlerMap = config.getHandlerMap();
+        this.colAt = colAt;
+        this.titleRowIndex = config.getTitleRowIndex();
+        this.dataRowIndex = rowAt + (titleRowIndex >= 0 ? 1 : 0);
+        this.lastDataRowIndex = config.getDataToIndex();
+        this.limit = config.getLimit();
+        this.sink = result::addRaw;
+        this.keepRawData = config.isKeepRawData();
+        this.result.keepRawData(keepRawData);
+        this.sharedRaw = keepRawData ? null : new Raw<>();
+        this.context = new ReadContext(config.isUseCachedFormulaValues(), config.getStringCacheSize());
+        this.cellCursor = new ReaderCell(null, null, config, result, context);
+        this.rowCursor = new ReaderRow(null, config, result);
+        this.checkpointInterval = config.getCheckpointInterval();
+    }
+
+    /**
+     * A session reading a chunk of data rows on another thread, sharing the resolved plan.
+     */
+    private ReaderSession(ReaderSession<T> parent) {
+        this.config = parent.config;
+        this.result = new Result<>(config.getTClass());
+        this.result.limitErrors(config.getMaxErrors(), config.getMaxErrorsPerRow(), config.getErrorSampling());
+        this.handlerMap = parent.handlerMap;
+        this.colAt = parent.colAt;
+        this.titleRowIndex = parent.titleRowIndex;
+        this.dataRowIndex = parent.dataRowIndex;
+        // row range and limit are applied by the parent
+        this.lastDataRowIndex = -1;
+        this.limit = Long.MAX_VALUE;
+        // raws of a chunk are kept until they are merged
+        this.sink = result::addRaw;
+        this.keepRawData = parent.keepRawData;
+        this.plan = parent.plan;
+        this.filterColumns = parent.filterColumns;
+        this.filterTitles = parent.filterTitles;
+        this.filterTests = parent.filterTests;
+        this.enrichers = parent.enrichers;
+        // formulas are evaluated by the parent while scanning rows
+        this.context = new ReadContext(true, config.getStringCacheSize());
+        this.cellCursor = new ReaderCell(null, null, config, result, context);
+        this.rowCursor = new ReaderRow(null, config, result);
+        // checkpoints are reported by the parent
+        this.checkpointInterval = 0;
+        this.titleRead = true;
+    }
+
+    /**
+     * Specify the sheet being read, so that it can be resumed from a checkpoint of that sheet.
+     *
+     * @param sheetIndex index of sheet
+     */
+    void setSheetIndex(int sheetIndex) {
+        this.sheetIndex = sheetIndex;
+        Checkpoint checkpoint = config.getResumeCheckpoint();
+        if (checkpoint != null && checkpoint.getSheetIndex() == sheetIndex && checkpoint.getRowIndex() >= dataRowIndex) {
+            this.resumeRowIndex = checkpoint.getRowIndex();
+            // rows before the checkpoint were contiguous and passed the offset
+            this.previousRowIndex = resumeRowIndex;
+            this.skippedRows = config.getOffset();
+        }
+    }
+
+    /**
+     * Do not report checkpoints per item, e.g. when they are reported per batch.
+     */
+    void disableCheckpoints() {
+        this.checkpointInterval = 0;
+    }
+
+    /**
+     * Push what the session reads down to the parser: rows already read by a previous
+     * reading are skipped, and cells of unmapped columns once the plan is known.
+     *
+     * @param rows rows about to be read
+     */
+    void attach(WorkbookSource.SheetRows rows) {
+        this.rows = rows;
+        if (resumeRowIndex >= 0) {
+            rows.skipRows(dataRowIndex, resumeRowIndex);
+        }
+        loadMergedRegions(rows::getMergedRegions);
+        if (titleRowIndex < 0) {
+            compilePlan();
+        }
+    }
+
+    /**
+     * Index merged regions of the sheet if {@link ReaderConfig#fillMergedCells(boolean)} is set.
+     *
+     * @param regions merged regions of the sheet, only requested when needed
+     */
+    void loadMergedRegions(Supplier<List<CellRangeAddress>> regions) {
+        if (!config.isFillMergedCells()) {
+            return;
+        }
+        MergedCells index = new MergedCells(regions.get());
+        this.mergedCells = index.isEmpty() ? null : index;
+    }
+
+    /**
+     * Index the lookup sheets of {@link ReaderConfig#lookup}, reading them from the same workbook.
+     *
+     * @param source workbook being read
+     */
+    void loadLookups(WorkbookSource source) {
+        if (needsLookups()) {
+            enrichers = new ArrayList<>();
+            config.getLookups().forEach(lookup -> enrichers.add(lookup.load(source)));
+        }
+    }
+
+    /**
+     * See {@link #loadLookups(WorkbookSource)}.
+     *
+     * @param workbook workbook loaded in memory
+     * @param cache    lookup indexes of the current reading
+     */
+    void loadLookups(Workbook workbook, LookupCache cache) {
+        if (needsLookups()) {
+            enrichers = new ArrayList<>();
+            config.getLookups().forEach(lookup -> enrichers.add(lookup.load(workbook, cache)));
+        }
+    }
+
+    private boolean needsLookups() {
+        // no item to enrich in columnar and aggregation modes
+        return !config.getLookups().isEmpty() && columnar == null && aggregation == null;
+    }
+
+    /**
+     * Read formula cells from their cached result, see {@link ReadContext#useCachedFormulaValues()}.
+     */
+    void useCachedFormulaValues() {
+        context.useCachedFormulaValues();
+    }
+
+    /**
+     * Redirect mapped rows to somewhere other than the session result.
+     *
+     * @param sink receiver of mapped rows
+     */
+    void setSink(Consumer<Raw<T>> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Do not collect raw data, since mapped rows are only handed out as items.
+     */
+    void dropRawData() {
+        this.keepRawData = false;
+        this.result.keepRawData(false);
+        this.sharedRaw = new Raw<>();
+    }
+
+    /**
+     * Store cell values into columns instead of mapping rows into DTO.
+     * Only handlers bound to a field are used; custom handlers and
+     * {@link ReaderConfig#beforeAddingItem(BiConsumer)} are ignored.
+     *
+     * @return columns to be filled
+     */
+    ColumnarResult readIntoColumns() {
+        this.columnar = new ColumnarResult();
+        this.targets = new IdentityHashMap<>();
+        return columnar;
+    }
+
+    /**
+     * Fold cell values into groups instead of mapping rows into DTO, like {@link #readIntoColumns()}.
+     *
+     * @param spec grouping keys and summarized fields
+     * @return groups to be filled
+     */
+    AggregationResult aggregateInto(Aggregation spec) {
+        this.aggregation = new AggregationResult(spec);
+        this.slots = new IdentityHashMap<>();
+        return aggregation;
+    }
+
+    /**
+     * Read a row of the sheet.
+     *
+     * @param row current row
+     * @return false if reading should stop
+     */
+    boolean accept(Row row) {
+        if (terminated || endOfData) {
+            return false;
+        }
+        row = fillMergedCells(row);
+        if (!isDataRow(row)) {
+            return !endOfData;
+        }
+
+        rowErrorsFrom = result.getErrors().size();
+        readDataRow(row);
+        reportRowErrors();
+        return !terminated;
+    }
+
+    /**
+     * Report errors of the current row, before its item is handed out: a batch
+     * may move errors out of the session once it is full.
+     */
+    private void reportRowErrors() {
+        if (rowErrorsFrom >= 0) {
+            config.handleRowErrors(result.getErrors(), rowErrorsFrom);
+            rowErrorsFrom = -1;
+        }
+    }
+
+    /**
+     * Read all rows of a sheet, then verify the section.
+     * Data rows are mapped in parallel chunks if {@link ReaderConfig#parallel(Executor, int)} is set.
+     *
+     * @param rows rows of the sheet in ascending order
+     */
+    void acceptAll(Iterator<Row> rows) {
+        boolean hasRows = rows.hasNext();
+        // columns and groups are filled in row order
+        Executor executor = columnar == null && aggregation == null ? config.getParallelExecutor() : null;
+        if (executor == null) {
+            while (rows.hasNext()) {
+                if (!accept(rows.next())) {
+                    break;
+                }
+            }
+        } else {
+            acceptInChunks(rows, executor, config.getParallelChunkSize());
+        }
+        finish(hasRows);
+    }
+
+    /**
+     * Rows are still pulled in order on the current thread, while each chunk of data rows is
+     * mapped by a forked session. Formulas are evaluated while pulling, since forks only read
+     * cached results. Chunks are merged back in order, so items and errors are the
+     * same as reading sequentially; chunks after a terminated row are discarded.
+     */
+    private void acceptInChunks(Iterator<Row> rows, Executor executor, int chunkSize) {
+        int maxInFlight = Runtime.getRuntime().availableProcessors() * 2;
+        Deque<CompletableFuture<ReaderSession<T>>> inFlight = new ArrayDeque<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        try {
+            while (rows.hasNext() && !terminated && !endOfData) {
+                Row row = fillMergedCells(rows.next());
+                if (!isDataRow(row)) {
+                    continue;
+                }
+                context.evaluateFormulas(row);
+                chunk.add(row);
+                if (chunk.size() < chunkSize) {
+                    continue;
+                }
+                inFlight.add(submit(chunk, executor));
+                chunk = new ArrayList<>(chunkSize);
+                if (inFlight.size() >= maxInFlight) {
+                    merge(join(inFlight.poll()));
+                }
+            }
+            if (!chunk.isEmpty() && !terminated) {
+                inFlight.add(submit(chunk, executor));
+            }
+            while (!inFlight.isEmpty()) {
+                merge(join(inFlight.poll()));
+            }
+        } finally {
+            // rows may belong to a workbook that is about to be closed
+            inFlight.forEach(task -> task.handle((r, e) -> null).join());
+        }
+    }
+
+    private CompletableFuture<ReaderSession<T>> submit(List<Row> chunk, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            ReaderSession<T> fork = new ReaderSession<>(this);
+            for (Row row : chunk) {
+                fork.readDataRow(row);
+                if (fork.terminated) {
+                    break;
+                }
+            }
+            return fork;
+        }, executor);
+    }
+
+    private static <S> S join(CompletableFuture<S> task) {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void merge(ReaderSession<T> fork) {
+        if (terminated) {
+            return;
+        }
+
+        // rows after the one reaching the limit would not have been read sequentially
+        List<Raw<T>> raws = fork.result.getRawData();
+        int take = (int) Math.min(raws.size(), limit - emitted);
+        int maxRowIndex = take < raws.size() || emitted + take == limit
+                          ? raws.get(take - 1).getRowIndex()
+                          : Integer.MAX_VALUE;
+
+        int errorCount = result.getErrors().size();
+        result.addErrors(fork.result, maxRowIndex);
+        config.handleRowErrors(result.getErrors(), errorCount);
+
+        for (int i = 0; i < take; i++) {
+            emit(raws.get(i));
+        }
+        terminated |= fork.terminated;
+    }
+
+    private void emit(Raw<T> raw) {
+        reportRowErrors();
+        sink.accept(raw);
+        if (++emitted >= limit) {
+            terminated = true;
+        }
+        if (checkpointInterval > 0 && emitted % checkpointInterval == 0) {
+            config.handleCheckpoint(new Checkpoint(sheetIndex, raw.getRowIndex()));
+        }
+    }
+
+    /**
+     * Values of merged regions are remembered from every row, but only data rows are filled.
+     */
+    private Row fillMergedCells(Row row) {
+        if (mergedCells == null) {
+            return row;
+        }
+        return mergedCells.apply(row, row.getRowNum() >= dataRowIndex, colAt);
+    }
+
+    /**
+     * Read the title row, skip rows before data, and stop at the end of the data range.
+     *
+     * @return true if the row is a data row to map
+     */
+    private boolean isDataRow(Row row) {
+        int rowIndex = row.getRowNum();
+        if (rowIndex == titleRowIndex) {
+            readTitleRow(row);
+            // before the parser reads ahead, so that unmapped cells of the first data row are skipped
+            compilePlan();
+            return false;
+        }
+        if (rowIndex < dataRowIndex) {
+            return false;
+        }
+        checkTitleRow();
+        if (plan == null) {
+            compilePlan();
+        }
+
+        if (lastDataRowIndex >= 0 && rowIndex > lastDataRowIndex) {
+            endOfData = true;
+            return false;
+        }
+        if (rowIndex <= resumeRowIndex) {
+            return false;
+        }
+        if (config.isStopAtBlankRow()) {
+            // a missing row is blank as well
+            int expected = previousRowIndex < 0 ? dataRowIndex : previousRowIndex + 1;
+            if (rowIndex > expected || isBlank(row)) {
+                endOfData = true;
+                return false;
+            }
+        }
+        previousRowIndex = rowIndex;
+
+        if (skippedRows < config.getOffset()) {
+            skippedRows++;
+            return false;
+        }
+        return true;
+    }
+
+    private void compilePlan() {
+        plan = handlerMap.compile(titleMap, config.getValidator());
+        resolveFilters();
+        selectColumns();
+    }
+
+    /**
+     * Unmapped cells are only needed for raw data and blank row detection.
+     */
+    private void selectColumns() {
+        if (rows == null || keepRawData || config.isStopAtBlankRow()) {
+            return;
+        }
+        ColumnPlan<T> columns = plan;
+        MergedCells merged = mergedCells;
+        int[] filtered = filterColumns != null ? filterColumns.clone() : null;
+        if (filtered != null) {
+            Arrays.sort(filtered);
+        }
+        // values of merged regions come from their top left cells, which may be out of the section
+        rows.selectColumns(colIndex -> colIndex >= colAt && columns.isMapped(colIndex) ||
+                                       merged != null && merged.isFirstColumn(colIndex) ||
+                                       filtered != null && Arrays.binarySearch(filtered, colIndex) >= 0);
+    }
+
+    private boolean isBlank(Row row) {
+        for (Cell cell : row) {
+            if (cell.getColumnIndex() < colAt) {
+                continue;
+            }
+            switch (cell.getCellType()) {
+                case BLANK:
+                    continue;
+                case STRING:
+                    if (cell.getStringCellValue().trim().isEmpty()) {
+                        continue;
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verify the section after all rows are pushed.
+     *
+     * @param hasRows whether the sheet contains any row
+     */
+    void finish(boolean hasRows) {
+        if (hasRows && !terminated) {
+            checkTitleRow();
+        }
+        if (columnar != null) {
+            columnar.setErrors(result);
+        }
+        if (aggregation != null) {
+            aggregation.setErrors(result);
+        }
+    }
+
+    private void checkTitleRow() {
+        if (titleRowIndex >= 0 && !titleRead) {
+            throw new RuntimeException("Title row at index " + titleRowIndex + " not found");
+        }
+    }
+
+    private void readTitleRow(Row titleRow) {
+        for (Cell cell : titleRow) {
+            if (cell.getColumnIndex() < colAt) {
+                continue;
+            }
+            titleMap.put(cell.getColumnIndex(), cell.getStringCellValue());
+        }
+        titleRead = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resolveFilters() {
+        List<RowFilter> filters = config.getRowFilters();
+        if (filters.isEmpty()) {
+            return;
+        }
+        filterColumns = new int[filters.size()];
+        filterTitles = new String[filters.size()];
+        filterTests = (Predicate<ReaderCell>[]) new Predicate<?>[filters.size()];
+        for (int i = 0; i < filters.size(); i++) {
+            RowFilter filter = filters.get(i);
+            filterColumns[i] = filter.resolveColumn(titleMap);
+            if (filterColumns[i] < 0) {
+                throw new RuntimeException("Column '" + filter.getColumnTitle() + "' of row filter " +
+                                           "not found at title row " + titleRowIndex);
+            }
+            filterTitles[i] = titleMap.get(filterColumns[i]);
+            filterTests[i] = filter.getPredicate();
+        }
+    }
+
+    /**
+     * @return true if the row passes all filters
+     */
+    private boolean isSelected(Row row) {
+        if (filterColumns == null) {
+            return true;
+        }
+        for (int i = 0; i < filterColumns.length; i++) {
+            Cell cell = row.getCell(filterColumns[i]);
+            if (cell == null) {
+                cell = getBlankCell(i, row.getRowNum());
+            }
+            ReaderCell readerCell = cellCursor.point(cell, filterTitles[i]);
+            boolean selected = filterTests[i].test(readerCell);
+            if (readerCell.isExitNow()) {
+                terminated = true;
+                return false;
+            }
+            if (!selected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A detached blank cell in place of a missing cell of a filter column, so that the sheet is not modified.
+     */
+    private Cell getBlankCell(int filterIndex, int rowIndex) {
+        if (blankCells == null) {
+            blankRow = new StreamingRow(rowIndex);
+            blankCells = new Cell[filterColumns.length];
+            for (int i = 0; i < blankCells.length; i++) {
+                blankCells[i] = blankRow.getCell(filterColumns[i], Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
+            }
+        }
+        blankRow.moveTo(rowIndex);
+        return blankCells[filterIndex];
+    }
+
+    private void readDataRow(Row currentRow) {
+        if (!isSelected(currentRow)) {
+            return;
+        }
+        if (columnar != null) {
+            readColumnarRow(currentRow);
+            return;
+        }
+        if (aggregation != null) {
+            readAggregatedRow(currentRow);
+            return;
+        }
+        ObjectFactory<T> factory = config.getObjectFactory();
+        // with constructor arguments, the object only exists once all cells are read
+        Object[] args = factory.hasArgs() ? factory.newArgs() : null;
+        T object = args == null ? factory.create() : null;
+
+        Raw<T> raw = sharedRaw != null ? sharedRaw : new Raw<>();
+
+        for (Cell cell : currentRow) {
+            int colIndex = cell.getColumnIndex();
+            if (colIndex < colAt) {
+                continue;
+            }
+
+            ColumnPlan.Column<T> column = plan.get(colIndex);
+            String colTitle = column.title;
+
+            // process raw if there is no handler
+            if (column.isEmpty()) {
+                if (keepRawData) {
+                    handleOther(raw, cell, colTitle);
+                }
+                continue;
+            }
+
+            // Wrap cell
+            ReaderCell readerCell = cellCursor.point(cell, colTitle);
+
+            // iterate all handlers registered by user
+            Handler<T>[] handlers = column.handlers;
+            for (int i = 0; i < handlers.length; i++) {
+                Handler<T> handler = handlers[i];
+                // Prepare ingredients
+                BiConsumer<T, ReaderCell> handle = handler.getCoreHandler();
+
+                // Do validation
+                String fieldName = handler.getFieldName();
+                // handler's type validator
+                if (handler.needValidation()) {
+                    readerCell.validate(handler.getTypeValidator(), fieldName);
+                }
+                // object validator
+                if (column.fieldValidators[i] != null) {
+                    readerCell.validate(column.fieldValidators[i], fieldName);
+                }
+
+                if (handler.isConstructorArg()) {
+                    Object value = handler.getArgReader().apply(readerCell);
+                    if (value != null) {
+                        args[handler.getArgIndex()] = value;
+                    }
+                } else if (handle != null) {
+                    if (object != null) {
+                        handle.accept(object, readerCell);
+                    } else {
+                        // the cursor moves on before the object exists
+                        pendingHandles.add(handle);
+                        pendingCells.add(readerCell.snapshot());
+                    }
+                }
+
+                // Post-check validation
+                if (readerCell.isExitNow()) {
+                    terminated = true;
+                    return;
+                }
+            }
+        }
+
+        if (args != null) {
+            object = factory.create(args);
+            if (!runPendingHandles(object)) {
+                terminated = true;
+                return;
+            }
+        }
+        raw.setData(object);
+        raw.setRowIndex(currentRow.getRowNum());
+        for (Consumer<T> enricher : enrichers) {
+            enricher.accept(object);
+        }
+
+        // handle before adding new item
+        ReaderRow readerRow = rowCursor.point(currentRow);
+        config.handleBeforeAdd(object, readerRow);
+
+        if (readerRow.isExitNow()) {
+            terminated = true;
+            return;
+        }
+
+        // add item
+        if (!readerRow.isSkipThisObject()) {
+            emit(raw);
+        }
+    }
+
+    private void readColumnarRow(Row currentRow) {
+        for (Cell cell : currentRow) {
+            int colIndex = cell.getColumnIndex();
+            if (colIndex < colAt) {
+                continue;
+            }
+
+            ColumnPlan.Column<T> column = plan.get(colIndex);
+            if (column.isEmpty()) {
+                continue;
+            }
+            ColumnarResult.Column[] columns = targets.computeIfAbsent(column, this::resolveTargets);
+
+            ReaderCell readerCell = cellCursor.point(cell, column.title);
+            Handler<T>[] handlers = column.handlers;
+            for (int i = 0; i < handlers.length; i++) {
+                Handler<T> handler = handlers[i];
+                String fieldName = handler.getFieldName();
+                if (handler.needValidation()) {
+                    readerCell.validate(handler.getTypeValidator(), fieldName);
+                }
+                if (column.fieldValidators[i] != null) {
+                    readerCell.validate(column.fieldValidators[i], fieldName);
+                }
+
+                // the same field may be mapped from several columns, only the first value counts
+                ColumnarResult.Column target = columns[i];
+                if (target != null && target.size() == columnar.size()) {
+                    target.read(readerCell);
+                }
+
+                // like an object that is never added, the row is dropped
+                if (readerCell.isExitNow()) {
+                    columnar.discardRow();
+                    terminated = true;
+                    return;
+                }
+            }
+        }
+        columnar.endRow();
+        if (++emitted >= limit) {
+            terminated = true;
+        }
+    }
+
+    private ColumnarResult.Column[] resolveTargets(ColumnPlan.Column<T> column) {
+        ColumnarResult.Column[] columns = new ColumnarResult.Column[column.handlers.length];
+        for (int i = 0; i < columns.length; i++) {
+            Handler<T> handler = column.handlers[i];
+            if (handler.getFieldName() != null && handler.getFieldType() != null) {
+                columns[i] = columnar.column(handler.getFieldName(), handler.getFieldType());
+            }
+        }
+        return columns;
+    }
+
+    private void readAggregatedRow(Row currentRow) {
+        aggregation.startRow();
+        for (Cell cell : currentRow) {
+            int colIndex = cell.getColumnIndex();
+            if (colIndex < colAt) {
+                continue;
+            }
+
+            ColumnPlan.Column<T> column = plan.get(colIndex);
+            if (column.isEmpty()) {
+                continue;
+            }
+            AggregationResult.Slot[] columnSlots = slots.computeIfAbsent(column, this::resolveSlots);
+
+            ReaderCell readerCell = cellCursor.point(cell, column.title);
+            Handler<T>[] handlers = column.handlers;
+            for (int i = 0; i < handlers.length; i++) {
+                Handler<T> handler = handlers[i];
+                String fieldName = handler.getFieldName();
+                if (handler.needValidation()) {
+                    readerCell.validate(handler.getTypeValidator(), fieldName);
+                }
+                if (column.fieldValidators[i] != null) {
+                    readerCell.validate(column.fieldValidators[i], fieldName);
+                }
+                if (columnSlots[i] != null) {
+                    aggregation.read(columnSlots[i], readerCell);
+                }
+
+                // like an object that is never added, the row is not counted
+                if (readerCell.isExitNow()) {
+                    aggregation.discardRow();
+                    terminated = true;
+                    return;
+                }
+            }
+        }
+        aggregation.endRow();
+        if (++emitted >= limit) {
+            terminated = true;
+        }
+    }
+
+    private AggregationResult.Slot[] resolveSlots(ColumnPlan.Column<T> column) {
+        AggregationResult.Slot[] columnSlots = new AggregationResult.Slot[column.handlers.length];
+        for (int i = 0; i < columnSlots.length; i++) {
+            Handler<T> handler = column.handlers[i];
+            if (handler.getFieldName() != null) {
+                columnSlots[i] = aggregation.slot(handler.getFieldName(), handler.getFieldType());
+            }
+        }
+        return columnSlots;
+    }
+
+    /**
+     * Run custom handlers of the row that were waiting for the object to be constructed.
+     *
+     * @return false if reading should stop
+     */
+    private boolean runPendingHandles(T object) {
+        try {
+            for (int i = 0; i < pendingHandles.size(); i++) {
+                ReaderCell readerCell = pendingCells.get(i);
+                pendingHandles.get(i).accept(object, readerCell);
+                if (readerCell.isExitNow()) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            pendingHandles.clear();
+            pendingCells.clear();
+        }
+    }
+
+    private void handleOther(Raw<T> raw, Cell cell, String colTitle) {
+        String key = colTitle != null
+                     ? colTitle
+                     : cell.getColumnIndex() + "";
+        switch (cell.getCellType()) {
+            case STRING:
+            case FORMULA:
+                raw.getOtherData().put(key, cell.getStringCellValue());
+                break;
+            case NUMERIC:
+                raw.getOtherData().put(key, cell.getNumericCellValue());
+                break;
+            case BOOLEAN:
+                raw.getOtherData().put(key, cell.getBooleanCellValue());
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -6,10 +6,11 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-
-import static io.github.nambach.excelutil.util.ListUtil.findElse;
+import java.util.Map;
 
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -20,26 +21,192 @@ public class Result<T> extends ArrayList<T> implements List<T> {
     private final List<Raw<T>> rawData = new ArrayList<>();
     private final List<RowError> errors = new ArrayList<>();
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final Map<Integer, RowError> errorIndex = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int maxErrors = Integer.MAX_VALUE;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int maxErrorsPerRow = Integer.MAX_VALUE;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int errorSampling = 1;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int totalErrorRows;
+    // indexes of failed rows whose errors were left out of the sample, in ascending order
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int[] sampledOut = new int[0];
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int sampledOutCount;
+    /**
+     * Whether some errors were dropped or rows were not validated
+     * because of {@link ReaderConfig#maxErrors(int)} or {@link ReaderConfig#maxErrorsPerRow(int)}.
+     */
+    private boolean errorLimitReached;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean keepRawData = true;
+
     public Result(Class<T> tClass) {
         this.tClass = tClass;
     }
 
+    /**
+     * @return true if some rows have errors, including rows whose errors were not kept
+     * because of {@link ReaderConfig#sampleErrors(int)}
+     */
     public boolean hasErrors() {
-        return ListUtil.hasMember(errors);
+        return ListUtil.hasMember(errors) || sampledOutCount > 0;
     }
 
     public boolean noError() {
-        return ListUtil.isNullOrEmpty(errors);
+        return !hasErrors();
+    }
+
+    /**
+     * @return number of rows that failed validation but whose errors were left out
+     * of the sample, see {@link ReaderConfig#sampleErrors(int)}
+     */
+    public int getSampledOutRows() {
+        return sampledOutCount;
     }
 
     void addRaw(Raw<T> raw) {
-        rawData.add(raw);
+        if (keepRawData) {
+            rawData.add(raw);
+        }
         this.add(raw.getData());
     }
 
+    /**
+     * @param b whether to keep {@link Raw} of each item in {@link #getRawData()}
+     */
+    void keepRawData(boolean b) {
+        this.keepRawData = b;
+    }
+
+    void limitErrors(int maxErrors, int maxErrorsPerRow, int errorSampling) {
+        this.maxErrors = maxErrors;
+        this.maxErrorsPerRow = maxErrorsPerRow;
+        this.errorSampling = errorSampling;
+    }
+
+    /**
+     * Find the error of a row, or create it. Once the error limit is reached,
+     * the created error is not stored.
+     *
+     * @param index row index
+     * @return error of the row
+     */
     RowError newRowError(int index) {
-        return findElse(errors,
-                        l -> l.getIndex() == index,
-                        new RowError(index, tClass));
+        RowError error = errorIndex.get(index);
+        if (error != null) {
+            return error;
+        }
+        error = new RowError(index, tClass);
+        if (totalErrorRows >= maxErrors) {
+            errorLimitReached = true;
+            return error;
+        }
+        totalErrorRows++;
+        errors.add(error);
+        errorIndex.put(index, error);
+        return error;
+    }
+
+    /**
+     * Find the error of a row for a failed validation, or create it. If the row is left out
+     * of the sample, it is only counted and the created error is not stored.
+     *
+     * @param index row index
+     * @return error of the row
+     */
+    RowError newValidationError(int index) {
+        if (index % errorSampling == 0 || errorIndex.containsKey(index)) {
+            return newRowError(index);
+        }
+        if (!isSampledOut(index)) {
+            addSampledOut(index);
+        }
+        return new RowError(index, tClass);
+    }
+
+    /**
+     * Check whether another error of a row would be kept or counted, so that validation can be skipped otherwise.
+     *
+     * @param index row index
+     * @return false if the error limit is reached, or the row is left out of the sample and already failed
+     */
+    boolean acceptsError(int index) {
+        RowError error = errorIndex.get(index);
+        boolean accepted = error != null
+                           ? error.countErrors() < maxErrorsPerRow
+                           : totalErrorRows < maxErrors;
+        if (!accepted) {
+            errorLimitReached = true;
+            return false;
+        }
+        // rows left out of the sample are validated until their first error
+        return error != null || index % errorSampling == 0 || !isSampledOut(index);
+    }
+
+    private void addSampledOut(int index) {
+        if (sampledOutCount == sampledOut.length) {
+            sampledOut = Arrays.copyOf(sampledOut, Math.max(16, sampledOutCount * 2));
+        }
+        sampledOut[sampledOutCount++] = index;
+    }
+
+    private boolean isSampledOut(int index) {
+        // rows are validated in ascending order
+        return sampledOutCount > 0 && sampledOut[sampledOutCount - 1] == index;
+    }
+
+    /**
+     * Append errors found by another result, in order.
+     *
+     * @param other result having errors of later rows
+     */
+    void addErrors(Result<T> other) {
+        addErrors(other, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Append errors found by another result, in order, up to a row.
+     *
+     * @param other       result having errors of later rows
+     * @param maxRowIndex last row index to take errors from
+     */
+    void addErrors(Result<T> other, int maxRowIndex) {
+        for (RowError error : other.errors) {
+            if (error.getIndex() > maxRowIndex) {
+                break;
+            }
+            if (totalErrorRows >= maxErrors) {
+                errorLimitReached = true;
+                break;
+            }
+            totalErrorRows++;
+            errors.add(error);
+            errorIndex.put(error.getIndex(), error);
+        }
+        for (int i = 0; i < other.sampledOutCount && other.sampledOut[i] <= maxRowIndex; i++) {
+            addSampledOut(other.sampledOut[i]);
+        }
+        errorLimitReached |= other.errorLimitReached;
+    }
+
+    /**
+     * Release stored errors. The error limit still counts them.
+     */
+    void clearErrors() {
+        errors.clear();
+        errorIndex.clear();
+        sampledOutCount = 0;
     }
 }
@@ -26,6 +26,17 @@ public class RowError {
         objectError.appendError(field, messages);
     }
 
+    /**
+     * @return number of custom and field errors of the row
+     */
+    int countErrors() {
+        int count = customError != null ? 1 : 0;
+        if (objectError != null) {
+            count += objectError.getFieldErrors().size();
+        }
+        return count;
+    }
+
     public int getExcelIndex() {
         return index + 1;
     }
@@ -0,0 +1,52 @@
+package io.github.nambach.excelutil.core;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A test on the raw cell of a column, deciding whether a data row is read at all.
+ * The column is either an index or a title of the title row.
+ */
+class RowFilter {
+    private final int columnIndex;
+    private final String columnTitle;
+    private final Predicate<ReaderCell> predicate;
+
+    RowFilter(int columnIndex, String columnTitle, Predicate<ReaderCell> predicate) {
+        this.columnIndex = columnIndex;
+        this.columnTitle = columnTitle;
+        this.predicate = predicate;
+    }
+
+    /**
+     * @param offset column offset of the translated config
+     * @return the same filter at the translated position
+     */
+    RowFilter shift(int offset) {
+        return columnTitle != null ? this : new RowFilter(columnIndex + offset, null, predicate);
+    }
+
+    /**
+     * @param titles column titles of the sheet
+     * @return index of the column to test, or -1 if the title is not found
+     */
+    int resolveColumn(Map<Integer, String> titles) {
+        if (columnTitle == null) {
+            return columnIndex;
+        }
+        for (Map.Entry<Integer, String> entry : titles.entrySet()) {
+            if (columnTitle.equals(entry.getValue())) {
+                return entry.getKey();
+            }
+        }
+        return -1;
+    }
+
+    String getColumnTitle() {
+        return columnTitle;
+    }
+
+    Predicate<ReaderCell> getPredicate() {
+        return predicate;
+    }
+}
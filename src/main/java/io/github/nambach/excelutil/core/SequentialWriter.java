@@ -1,7 +1,9 @@
 package io.github.nambach.excelutil.core;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.function.UnaryOperator;
 
@@ -16,6 +18,24 @@ public class SequentialWriter implements AutoCloseable {
         editor = new Editor(stream);
     }
 
+    /**
+     * Write into a copy of a workbook file, see {@link Editor#Editor(File)}.
+     *
+     * @param file excel file
+     */
+    public SequentialWriter(File file) {
+        editor = new Editor(file);
+    }
+
+    /**
+     * Write into a copy of a workbook file. See {@link #SequentialWriter(File)}.
+     *
+     * @param path excel file
+     */
+    public SequentialWriter(Path path) {
+        editor = new Editor(path);
+    }
+
     public void createNewSheet(String sheetName) {
         editor.goToSheet(sheetName);
     }
@@ -0,0 +1,416 @@
+package io.github.nambach.excelutil.core;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Date1904Support;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * A detached, read-only {@link org.apache.poi.ss.usermodel.Cell} produced by the streaming parsers.
+ * Formula cells only carry their cached result, and there is no parent {@link Sheet}.
+ */
+class StreamingCell implements org.apache.poi.ss.usermodel.Cell {
+    private final StreamingRow row;
+    private final int columnIndex;
+    private final CellStyle cellStyle;
+    private final boolean date1904;
+
+    private CellType cellType = CellType.BLANK;
+    private CellType cachedType;
+    private String formula;
+    private String stringValue;
+    private double numericValue;
+    private boolean booleanValue;
+    private byte errorValue;
+
+    StreamingCell(StreamingRow row, int columnIndex, CellStyle cellStyle, boolean date1904) {
+        this.row = row;
+        this.columnIndex = columnIndex;
+        this.cellStyle = cellStyle;
+        this.date1904 = date1904;
+    }
+
+    /**
+     * Copy the value of a cell to another position. Formulas are not copied, only their cached result.
+     *
+     * @param source      cell to copy
+     * @param row         row of the copy
+     * @param columnIndex column of the copy
+     * @return a detached cell holding the same value
+     */
+    static StreamingCell copyValue(org.apache.poi.ss.usermodel.Cell source, StreamingRow row, int columnIndex) {
+        boolean date1904;
+        if (source instanceof StreamingCell) {
+            date1904 = ((StreamingCell) source).date1904;
+        } else {
+            Sheet sheet = source.getSheet();
+            date1904 = sheet != null && sheet.getWorkbook() instanceof Date1904Support &&
+                       ((Date1904Support) sheet.getWorkbook()).isDate1904();
+        }
+
+        StreamingCell cell = new StreamingCell(row, columnIndex, source.getCellStyle(), date1904);
+        CellType type = source.getCellType();
+        if (type == CellType.FORMULA) {
+            type = source.getCachedFormulaResultType();
+        }
+        if (type == null) {
+            return cell;
+        }
+        switch (type) {
+            case STRING:
+                cell.setString(source.getStringCellValue());
+                break;
+            case NUMERIC:
+                cell.setNumeric(source.getNumericCellValue());
+                break;
+            case BOOLEAN:
+                cell.setBoolean(source.getBooleanCellValue());
+                break;
+            case ERROR:
+                cell.setError(source.getErrorCellValue());
+                break;
+            default:
+                break;
+        }
+        return cell;
+    }
+
+    void setFormula(String formula) {
+        this.formula = formula;
+    }
+
+    void setString(String value) {
+        this.stringValue = value;
+        setType(CellType.STRING);
+    }
+
+    void setNumeric(double value) {
+        this.numericValue = value;
+        setType(CellType.NUMERIC);
+    }
+
+    void setBoolean(boolean value) {
+        this.booleanValue = value;
+        setType(CellType.BOOLEAN);
+    }
+
+    void setError(byte value) {
+        this.errorValue = value;
+        setType(CellType.ERROR);
+    }
+
+    private void setType(CellType type) {
+        if (formula != null) {
+            this.cellType = CellType.FORMULA;
+            this.cachedType = type;
+        } else {
+            this.cellType = type;
+        }
+    }
+
+    private CellType getValueType() {
+        if (cellType == CellType.FORMULA) {
+            return cachedType != null ? cachedType : CellType.BLANK;
+        }
+        return cellType;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Streaming cells are read-only.");
+    }
+
+    private static IllegalStateException typeMismatch(CellType expected, CellType actual) {
+        return new IllegalStateException("Cannot get a " + expected + " value from a " + actual + " cell");
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
+    /**
+     * @return always null, since the sheet is not kept in memory while streaming.
+     */
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public Row getRow() {
+        return row;
+    }
+
+    @Override
+    public CellType getCellType() {
+        return cellType;
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        if (cellType != CellType.FORMULA) {
+            throw new IllegalStateException("Only formula cells have cached results");
+        }
+        return cachedType;
+    }
+
+    @Override
+    public String getCellFormula() {
+        if (cellType != CellType.FORMULA) {
+            throw typeMismatch(CellType.FORMULA, cellType);
+        }
+        return formula;
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        CellType type = getValueType();
+        if (type == CellType.BLANK) {
+            return 0.0;
+        }
+        if (type != CellType.NUMERIC) {
+            throw typeMismatch(CellType.NUMERIC, type);
+        }
+        return numericValue;
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        if (getValueType() == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        if (getValueType() == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getLocalDateTime(getNumericCellValue(), date1904);
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(getStringCellValue());
+    }
+
+    @Override
+    public String getStringCellValue() {
+        CellType type = getValueType();
+        if (type == CellType.BLANK) {
+            return "";
+        }
+        if (type != CellType.STRING) {
+            throw typeMismatch(CellType.STRING, type);
+        }
+        return stringValue;
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        CellType type = getValueType();
+        if (type == CellType.BLANK) {
+            return false;
+        }
+        if (type != CellType.BOOLEAN) {
+            throw typeMismatch(CellType.BOOLEAN, type);
+        }
+        return booleanValue;
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        CellType type = getValueType();
+        if (type != CellType.ERROR) {
+            throw typeMismatch(CellType.ERROR, type);
+        }
+        return errorValue;
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return cellStyle;
+    }
+
+    @Override
+    public CellAddress getAddress() {
+        return new CellAddress(getRowIndex(), columnIndex);
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Cell " + getAddress() + " is not part of an array formula.");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    /**
+     * Same output as {@link DataFormatter#formatCellValue(org.apache.poi.ss.usermodel.Cell)},
+     * which cannot be used since it requires the parent workbook.
+     *
+     * @param formatter formatter
+     * @return formatted value
+     */
+    String formatValue(DataFormatter formatter) {
+        switch (getValueType()) {
+            case NUMERIC:
+                if (cellStyle == null) {
+                    return formatter.formatRawCellContents(numericValue, 0, "General", date1904);
+                }
+                return formatter.formatRawCellContents(numericValue,
+                                                       cellStyle.getDataFormat(),
+                                                       cellStyle.getDataFormatString(),
+                                                       date1904);
+            case STRING:
+                return stringValue;
+            case BOOLEAN:
+                return booleanValue ? "TRUE" : "FALSE";
+            case ERROR:
+                return FormulaError.forInt(errorValue).getString();
+            default:
+                return "";
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (getValueType()) {
+            case STRING:
+                return stringValue;
+            case NUMERIC:
+                return Double.toString(numericValue);
+            case BOOLEAN:
+                return booleanValue ? "TRUE" : "FALSE";
+            case ERROR:
+                return FormulaError.forInt(errorValue).getString();
+            default:
+                return "";
+        }
+    }
+
+    // Unsupported mutations
+
+    @Override
+    @Deprecated
+    public void setCellType(CellType cellType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setBlank() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(double value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Date value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(LocalDateTime value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Calendar value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(RichTextString value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(String value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellFormula(String formula) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeFormula() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw readOnly();
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read sheets row by row without loading the workbook into memory.
+ * Only the rows currently being mapped are kept alive.
+ */
+@Log4j2
+abstract class StreamingReader implements WorkbookSource {
+
+    private static final SheetRows EMPTY = new SheetRows() {
+        @Override
+        public boolean hasNext() {
+            return false;
+        }
+
+        @Override
+        public Row next() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    // copy of the byte stream on disk, deleted on close
+    private Path spooled;
+    private final LookupCache lookupCache = new LookupCache();
+
+    /**
+     * Open a workbook for streaming. Zip entries and .xls records need random access, so the
+     * stream is first copied to a temporary file, which is deleted once the reader is closed;
+     * this keeps memory flat at the cost of disk space.
+     *
+     * @param stream          byte stream, must be prepared by {@link FileMagic#prepareToCheckMagic(InputStream)}
+     * @param stringCacheSize maximum number of shared strings cached per sheet, or 0 for none
+     * @return a streaming reader; a workbook loaded into memory if the stream was consumed but
+     * the file cannot be streamed (e.g. an encrypted .xls); or null if the file format is unknown
+     */
+    @SneakyThrows
+    static WorkbookSource open(InputStream stream, int stringCacheSize) {
+        FileMagic magic = FileMagic.valueOf(stream);
+        if (magic != FileMagic.OOXML && magic != FileMagic.OLE2) {
+            return null;
+        }
+
+        Path file = Files.createTempFile("excel-util", magic == FileMagic.OOXML ? ".xlsx" : ".xls");
+        try {
+            Files.copy(stream, file, StandardCopyOption.REPLACE_EXISTING);
+            StreamingReader reader = open(file.toFile(), stringCacheSize);
+            if (reader != null) {
+                reader.spooled = file;
+                return reader;
+            }
+            try (InputStream copy = Files.newInputStream(file)) {
+                return new EditorSource(new Editor(copy));
+            } finally {
+                delete(file);
+            }
+        } catch (Exception e) {
+            delete(file);
+            throw e;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("Error while deleting temporary file.", e);
+        }
+    }
+
+    /**
+     * Open a workbook file for streaming, read-only. Zip entries are inflated on demand.
+     *
+     * @param file            excel file
+     * @param stringCacheSize maximum number of shared strings cached per sheet, or 0 for none
+     * @return a streaming reader, or null if the file format cannot be streamed
+     */
+    @SneakyThrows
+    static StreamingReader open(File file, int stringCacheSize) {
+        FileMagic magic = FileMagic.valueOf(file);
+        if (magic == FileMagic.OOXML) {
+            return new XSSFStreamingReader(OPCPackage.open(file, PackageAccess.READ), stringCacheSize);
+        }
+        if (magic == FileMagic.OLE2) {
+            POIFSFileSystem fs = new POIFSFileSystem(file, true);
+            StreamingReader reader = HSSFStreamingReader.open(fs, stringCacheSize);
+            if (reader == null) {
+                fs.close();
+            }
+            return reader;
+        }
+        return null;
+    }
+
+    abstract List<String> getSheetNames();
+
+    @Override
+    public LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    @Override
+    public int getTotalSheets() {
+        return getSheetNames().size();
+    }
+
+    @Override
+    public String getSheetName(int index) {
+        return getSheetNames().get(index);
+    }
+
+    @Override
+    public int getSheetIndex(String sheetName) {
+        return getSheetNames().indexOf(sheetName);
+    }
+
+    /**
+     * Parse a sheet. Navigation follows the rule of {@link Editor#goToSheet(int)}.
+     *
+     * @param index index of sheet
+     * @return rows of the sheet in ascending order
+     */
+    @Override
+    public SheetRows openSheet(int index) {
+        int total = getTotalSheets();
+        if (total == 0) {
+            return EMPTY;
+        }
+        if (index < 0) {
+            index = 0;
+        }
+        return parseSheet(Math.min(index, total - 1));
+    }
+
+    abstract SheetRows parseSheet(int index);
+
+    /**
+     * Release the underlying file.
+     */
+    abstract void closeSource();
+
+    @Override
+    public void close() {
+        try {
+            closeSource();
+        } finally {
+            if (spooled != null) {
+                delete(spooled);
+            }
+        }
+    }
+}
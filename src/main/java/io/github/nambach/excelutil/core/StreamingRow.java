@@ -0,0 +1,195 @@
+package io.github.nambach.excelutil.core;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A detached, read-only {@link Row} produced by the streaming parsers.
+ * Cells are kept in ascending column order.
+ */
+class StreamingRow implements Row {
+    private int rowNum;
+    private final List<Cell> cells = new ArrayList<>();
+
+    StreamingRow(int rowNum) {
+        this.rowNum = rowNum;
+    }
+
+    /**
+     * Move a row holding no cell from the file, e.g. a placeholder of blank cells.
+     *
+     * @param rowNum row index
+     */
+    void moveTo(int rowNum) {
+        this.rowNum = rowNum;
+    }
+
+    void addCell(Cell cell) {
+        cells.add(cell);
+    }
+
+    /**
+     * Restore the column order after cells were added out of order.
+     */
+    void sortCells() {
+        cells.sort(Comparator.comparingInt(Cell::getColumnIndex));
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Streaming rows are read-only.");
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public Cell getCell(int cellnum) {
+        int low = 0;
+        int high = cells.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int col = cells.get(mid).getColumnIndex();
+            if (col < cellnum) {
+                low = mid + 1;
+            } else if (col > cellnum) {
+                high = mid - 1;
+            } else {
+                return cells.get(mid);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Cell getCell(int cellnum, MissingCellPolicy policy) {
+        Cell cell = getCell(cellnum);
+        if (policy == MissingCellPolicy.RETURN_BLANK_AS_NULL) {
+            return cell == null || cell.getCellType() == CellType.BLANK ? null : cell;
+        }
+        if (policy == MissingCellPolicy.CREATE_NULL_AS_BLANK && cell == null) {
+            return new StreamingCell(this, cellnum, null, false);
+        }
+        return cell;
+    }
+
+    @Override
+    public short getFirstCellNum() {
+        return cells.isEmpty() ? -1 : (short) cells.get(0).getColumnIndex();
+    }
+
+    @Override
+    public short getLastCellNum() {
+        return cells.isEmpty() ? -1 : (short) (cells.get(cells.size() - 1).getColumnIndex() + 1);
+    }
+
+    @Override
+    public int getPhysicalNumberOfCells() {
+        return cells.size();
+    }
+
+    @Override
+    public boolean getZeroHeight() {
+        return false;
+    }
+
+    @Override
+    public short getHeight() {
+        return -1;
+    }
+
+    @Override
+    public float getHeightInPoints() {
+        return -1;
+    }
+
+    @Override
+    public boolean isFormatted() {
+        return false;
+    }
+
+    @Override
+    public CellStyle getRowStyle() {
+        return null;
+    }
+
+    @Override
+    public Iterator<Cell> cellIterator() {
+        return Collections.unmodifiableList(cells).iterator();
+    }
+
+    /**
+     * @return always null, since the sheet is not kept in memory while streaming.
+     */
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public int getOutlineLevel() {
+        return 0;
+    }
+
+    // Unsupported mutations
+
+    @Override
+    public Cell createCell(int column) {
+        throw readOnly();
+    }
+
+    @Override
+    public Cell createCell(int column, CellType type) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeCell(Cell cell) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setRowNum(int rowNum) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setHeight(short height) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setZeroHeight(boolean zHeight) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setHeightInPoints(float height) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setRowStyle(CellStyle style) {
+        throw readOnly();
+    }
+
+    @Override
+    public void shiftCellsRight(int firstShiftColumnIndex, int lastShiftColumnIndex, int step) {
+        throw readOnly();
+    }
+
+    @Override
+    public void shiftCellsLeft(int firstShiftColumnIndex, int lastShiftColumnIndex, int step) {
+        throw readOnly();
+    }
+}
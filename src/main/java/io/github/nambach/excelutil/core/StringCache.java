@@ -0,0 +1,57 @@
+package io.github.nambach.excelutil.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Strings of a sheet cached so that repeated values share one instance.
+ * Shared strings are cached by their index in the shared string table, so they are
+ * not rebuilt for every cell; other strings (inline, formula results, formatted numbers)
+ * are cached by value. Once full, the least recently used string is evicted.
+ * Not thread-safe: each reading thread uses its own cache.
+ */
+class StringCache {
+    private final Map<Integer, String> shared;
+    private final Map<String, String> values;
+
+    StringCache(int maxSize) {
+        this.shared = newLruMap(maxSize);
+        this.values = newLruMap(maxSize);
+    }
+
+    private static <K> Map<K, String> newLruMap(int maxSize) {
+        return new LinkedHashMap<K, String>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param index  index of the shared string
+     * @param loader loader of the string when it is not cached
+     * @return the shared instance of the string
+     */
+    String get(int index, IntFunction<String> loader) {
+        String value = shared.get(index);
+        if (value == null) {
+            value = loader.apply(index);
+            shared.put(index, value);
+        }
+        return value;
+    }
+
+    /**
+     * @param value a string read from a cell
+     * @return the cached instance equal to the value
+     */
+    String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String cached = values.putIfAbsent(value, value);
+        return cached != null ? cached : value;
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.Getter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellAddress;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Read several table sections of a workbook, e.g. a header block, a table of items
+ * and a totals block, with a single parse of the file. Each sheet is parsed once,
+ * and every row is pushed to all sections of the sheet.
+ * <pre>{@code
+ * WorkbookReader reader = new WorkbookReader().streaming(true);
+ * WorkbookReader.Section<Order> order = reader.section(0, "A1", orderConfig);
+ * WorkbookReader.Section<Line> lines = reader.section(0, "A6", lineConfig);
+ * reader.read(stream);
+ * Result<Line> items = lines.getResult();
+ * }</pre>
+ * Rows are mapped sequentially; {@link ReaderConfig#parallel} is ignored.
+ */
+public class WorkbookReader {
+    private final List<Section<?>> sections = new ArrayList<>();
+    private boolean streaming;
+
+    /**
+     * Parse .xlsx files row by row instead of loading them into memory.
+     * See {@link ReaderConfig#streaming(boolean)}.
+     *
+     * @param b streaming
+     * @return current reader
+     */
+    public WorkbookReader streaming(boolean b) {
+        this.streaming = b;
+        return this;
+    }
+
+    /**
+     * Add a section anchored at the given cell, like {@link Editor#readSection(ReaderConfig)}
+     * after {@link Editor#goToCell(String)}.
+     *
+     * @param sheetIndex index of sheet
+     * @param address    address of the top left cell of the section, e.g. "A5"
+     * @param config     reading rules
+     * @param <T>        DTO
+     * @return section whose result is filled by {@link #read(InputStream)}
+     */
+    public <T> Section<T> section(int sheetIndex, String address, ReaderConfig<T> config) {
+        CellAddress cell = new CellAddress(address);
+        return addSection(new Section<>(sheetIndex, null, cell.getRow(), cell.getColumn(), config));
+    }
+
+    /**
+     * @param sheetName name of sheet
+     * @param address   address of the top left cell of the section, e.g. "A5"
+     * @param config    reading rules
+     * @param <T>       DTO
+     * @return section whose result is filled by {@link #read(InputStream)}
+     */
+    public <T> Section<T> section(String sheetName, String address, ReaderConfig<T> config) {
+        Objects.requireNonNull(sheetName);
+        CellAddress cell = new CellAddress(address);
+        return addSection(new Section<>(-1, sheetName, cell.getRow(), cell.getColumn(), config));
+    }
+
+    /**
+     * Add a section at the position defined by the config itself,
+     * like {@link ReaderConfig#readSheet(InputStream, int)}.
+     *
+     * @param sheetIndex index of sheet
+     * @param config     reading rules
+     * @param <T>        DTO
+     * @return section whose result is filled by {@link #read(InputStream)}
+     */
+    public <T> Section<T> section(int sheetIndex, ReaderConfig<T> config) {
+        Pointer base = config.getBaseCoordinate();
+        return addSection(new Section<>(sheetIndex, null, base.getRow(), base.getCol(), config));
+    }
+
+    private <T> Section<T> addSection(Section<T> section) {
+        Objects.requireNonNull(section.config);
+        sections.add(section);
+        return section;
+    }
+
+    /**
+     * Fill results of all sections.
+     *
+     * @param stream byte stream
+     */
+    public void read(InputStream stream) {
+        try (WorkbookSource source = WorkbookSource.open(stream, streaming, 0)) {
+            read(source);
+        }
+    }
+
+    /**
+     * Fill results of all sections from a file opened read-only.
+     *
+     * @param file excel file
+     */
+    public void read(File file) {
+        try (WorkbookSource source = WorkbookSource.open(file, streaming, 0)) {
+            read(source);
+        }
+    }
+
+    /**
+     * Fill results of all sections from a file. See {@link #read(File)}.
+     *
+     * @param path excel file
+     */
+    public void read(Path path) {
+        read(path.toFile());
+    }
+
+    private void read(WorkbookSource source) {
+        // sections grouped by sheet, in sheet order
+        Map<Integer, List<ReaderSession<?>>> sheets = new TreeMap<>();
+        for (Section<?> section : sections) {
+            int index = section.sheetName != null
+                        ? source.getSheetIndex(section.sheetName)
+                        : section.sheetIndex;
+            index = source.resolveSheetIndex(index);
+            ReaderSession<?> session = section.open();
+            session.setSheetIndex(index);
+            sheets.computeIfAbsent(index, i -> new ArrayList<>()).add(session);
+        }
+
+        sheets.forEach((index, sessions) -> {
+            sessions.forEach(session -> session.loadLookups(source));
+            try (WorkbookSource.SheetRows rows = source.openSheet(index)) {
+                sessions.forEach(session -> session.loadMergedRegions(rows::getMergedRegions));
+                readRows(rows, sessions);
+            }
+        });
+    }
+
+    private static void readRows(Iterator<Row> rows, List<ReaderSession<?>> sessions) {
+        boolean hasRows = rows.hasNext();
+        List<ReaderSession<?>> active = new ArrayList<>(sessions);
+        while (!active.isEmpty() && rows.hasNext()) {
+            Row row = rows.next();
+            active.removeIf(session -> !session.accept(row));
+        }
+        for (ReaderSession<?> session : sessions) {
+            session.finish(hasRows);
+        }
+    }
+
+    /**
+     * A table section of the workbook. Its result is available once the workbook is read.
+     *
+     * @param <T> DTO
+     */
+    public static class Section<T> {
+        private final int sheetIndex;
+        private final String sheetName;
+        private final int rowAt;
+        private final int colAt;
+        private final ReaderConfig<T> config;
+        @Getter
+        private Result<T> result;
+
+        private Section(int sheetIndex, String sheetName, int rowAt, int colAt, ReaderConfig<T> config) {
+            this.sheetIndex = sheetIndex;
+            this.sheetName = sheetName;
+            this.rowAt = rowAt;
+            this.colAt = colAt;
+            this.config = config;
+        }
+
+        private ReaderSession<T> open() {
+            ReaderSession<T> session = new ReaderSession<>(config, rowAt, colAt);
+            this.result = session.getResult();
+            return session;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.SneakyThrows;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.io.File;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * A workbook opened for reading, either fully loaded into memory
+ * or parsed row by row.
+ */
+interface WorkbookSource extends AutoCloseable {
+
+    /**
+     * Open a workbook from a byte stream.
+     *
+     * @param stream          byte stream
+     * @param streaming       whether to parse .xlsx/.xls row by row instead of loading it
+     * @param stringCacheSize maximum number of shared strings cached per sheet, or 0 for none
+     * @return workbook source
+     */
+    static WorkbookSource open(InputStream stream, boolean streaming, int stringCacheSize) {
+        if (streaming) {
+            stream = FileMagic.prepareToCheckMagic(stream);
+            WorkbookSource reader = StreamingReader.open(stream, stringCacheSize);
+            if (reader != null) {
+                return reader;
+            }
+        }
+        return new EditorSource(new Editor(stream));
+    }
+
+    /**
+     * Open a workbook file read-only. See {@link #open(InputStream, boolean, int)}.
+     */
+    @SneakyThrows
+    static WorkbookSource open(File file, boolean streaming, int stringCacheSize) {
+        if (streaming) {
+            StreamingReader reader = StreamingReader.open(file, stringCacheSize);
+            if (reader != null) {
+                return reader;
+            }
+        }
+        return new EditorSource(new Editor(WorkbookFactory.create(file, null, true)));
+    }
+
+    int getTotalSheets();
+
+    String getSheetName(int index);
+
+    /**
+     * @param sheetName name of sheet
+     * @return index of the sheet, or -1 if not found
+     */
+    int getSheetIndex(String sheetName);
+
+    /**
+     * @return lookup indexes built while this workbook is open, shared by all readings of it
+     */
+    LookupCache getLookupCache();
+
+    /**
+     * Start reading rows of a sheet. Navigation follows the rule of {@link Editor#goToSheet(int)}.
+     *
+     * @param index index of sheet
+     * @return rows of the sheet in ascending order
+     */
+    SheetRows openSheet(int index);
+
+    /**
+     * @param index index of sheet
+     * @return index of the sheet actually read by {@link #openSheet(int)}
+     */
+    default int resolveSheetIndex(int index) {
+        return Math.max(Math.min(index, getTotalSheets() - 1), 0);
+    }
+
+    /**
+     * Prepare the workbook before its sheets are read by several threads, see
+     * {@link #readSections(List, ReaderConfig, int, int, Executor)}. Nothing is needed
+     * when sheets are parsed independently.
+     *
+     * @param sheetIndexes indexes of sheets to read
+     * @param config       reading rules of the sheets
+     */
+    default void prepareConcurrentReading(List<Integer> sheetIndexes, ReaderConfig<?> config) {
+    }
+
+    /**
+     * Start reading rows of a sheet for a session.
+     *
+     * @param index   index of sheet
+     * @param session session to push rows into
+     * @return rows of the sheet in ascending order
+     */
+    default SheetRows openSheet(int index, ReaderSession<?> session) {
+        session.setSheetIndex(resolveSheetIndex(index));
+        session.loadLookups(this);
+        SheetRows rows = openSheet(index);
+        session.attach(rows);
+        return rows;
+    }
+
+    /**
+     * Read a table section of a sheet.
+     *
+     * @param sheetIndex index of sheet to read
+     * @param config     reading rules
+     * @param rowAt      row index of the section
+     * @param colAt      column index of the section
+     * @param <T>        DTO
+     * @return list of DTO
+     */
+    default <T> Result<T> readSection(int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt) {
+        return readRows(sheetIndex, config, rowAt, colAt);
+    }
+
+    /**
+     * Read a table section of a sheet through {@link #openSheet(int)}.
+     * Unlike {@link #readSection(int, ReaderConfig, int, int)}, this never
+     * moves the cursor of an {@link Editor}, so sheets can be read concurrently.
+     *
+     * @param sheetIndex index of sheet to read
+     * @param config     reading rules
+     * @param rowAt      row index of the section
+     * @param colAt      column index of the section
+     * @param <T>        DTO
+     * @return list of DTO
+     */
+    default <T> Result<T> readRows(int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt) {
+        ReaderSession<T> session = new ReaderSession<>(config, rowAt, colAt);
+        try (SheetRows rows = openSheet(sheetIndex, session)) {
+            session.acceptAll(rows);
+        }
+        return session.getResult();
+    }
+
+    /**
+     * Read a table section of a sheet into columns.
+     *
+     * @param sheetIndex index of sheet to read
+     * @param config     reading rules
+     * @param rowAt      row index of the section
+     * @param colAt      column index of the section
+     * @param <T>        DTO
+     * @return columns of mapped fields
+     */
+    default <T> ColumnarResult readColumns(int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt) {
+        ReaderSession<T> session = new ReaderSession<>(config, rowAt, colAt);
+        session.dropRawData();
+        ColumnarResult columns = session.readIntoColumns();
+        try (SheetRows rows = openSheet(sheetIndex, session)) {
+            session.acceptAll(rows);
+        }
+        return columns;
+    }
+
+    /**
+     * Aggregate a table section of a sheet without keeping its rows.
+     *
+     * @param sheetIndex  index of sheet to read
+     * @param config      reading rules
+     * @param rowAt       row index of the section
+     * @param colAt       column index of the section
+     * @param aggregation grouping keys and summarized fields
+     * @param <T>         DTO
+     * @return groups of rows
+     */
+    default <T> AggregationResult aggregate(int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt,
+                                            Aggregation aggregation) {
+        ReaderSession<T> session = new ReaderSession<>(config, rowAt, colAt);
+        session.dropRawData();
+        AggregationResult groups = session.aggregateInto(aggregation);
+        try (SheetRows rows = openSheet(sheetIndex, session)) {
+            session.acceptAll(rows);
+        }
+        return groups;
+    }
+
+    /**
+     * Read the same table section of several sheets.
+     *
+     * @param sheetIndexes indexes of sheets to read
+     * @param config       reading rules
+     * @param rowAt        row index of the section
+     * @param colAt        column index of the section
+     * @param executor     executor to read each sheet on, or null to read on the current thread
+     * @param <T>          DTO
+     * @return map of sheet name and list of DTO, in the order of sheet indexes
+     */
+    default <T> Map<String, Result<T>> readSections(List<Integer> sheetIndexes, ReaderConfig<T> config,
+                                                    int rowAt, int colAt, Executor executor) {
+        Checkpoint checkpoint = config.getResumeCheckpoint();
+        if (checkpoint != null) {
+            // sheets before the checkpoint were read by a previous reading
+            sheetIndexes = sheetIndexes.stream()
+                                       .filter(i -> i >= checkpoint.getSheetIndex())
+                                       .collect(Collectors.toList());
+        }
+
+        Map<String, Result<T>> result = new LinkedHashMap<>();
+        if (executor == null) {
+            for (int i : sheetIndexes) {
+                result.put(getSheetName(i), readSection(i, config, rowAt, colAt));
+            }
+            return result;
+        }
+
+        prepareConcurrentReading(sheetIndexes, config);
+        List<CompletableFuture<Result<T>>> tasks = new ArrayList<>();
+        for (int i : sheetIndexes) {
+            tasks.add(CompletableFuture.supplyAsync(() -> readRows(i, config, rowAt, colAt), executor));
+        }
+
+        // wait for every sheet before the workbook gets closed, even if one fails
+        RuntimeException failure = null;
+        for (int k = 0; k < tasks.size(); k++) {
+            try {
+                result.put(getSheetName(sheetIndexes.get(k)), tasks.get(k).join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * Read a table section of a sheet and hand off mapped items in batches.
+     *
+     * @param sheetIndex index of sheet to read
+     * @param config     reading rules
+     * @param rowAt      row index of the section
+     * @param colAt      column index of the section
+     * @param batchSize  maximum number of items per batch
+     * @param consumer   receiver of batches
+     * @param executor   executor to consume batches asynchronously, or null to consume on the reading thread
+     * @param <T>        DTO
+     */
+    default <T> void readBatches(int sheetIndex, ReaderConfig<T> config, int rowAt, int colAt,
+                                 int batchSize, Consumer<Result<T>> consumer, Executor executor) {
+        ReaderSession<T> session = new ReaderSession<>(config, rowAt, colAt);
+        BatchCollector<T> collector = new BatchCollector<>(session, batchSize, consumer, executor);
+        session.setSink(collector);
+
+        try {
+            try (SheetRows rows = openSheet(sheetIndex, session)) {
+                session.acceptAll(rows);
+            }
+            collector.flush();
+        } finally {
+            collector.await();
+        }
+    }
+
+    @Override
+    void close();
+
+    /**
+     * Rows of a sheet being read. Closing stops the underlying parser, if any.
+     */
+    interface SheetRows extends Iterator<Row>, AutoCloseable {
+        /**
+         * Hint that rows in a range will be ignored, so that the parser may skip them cheaply.
+         *
+         * @param fromIndex first row index to skip
+         * @param toIndex   last row index to skip (inclusive)
+         */
+        default void skipRows(int fromIndex, int toIndex) {
+        }
+
+        /**
+         * Hint that only some columns will be read, so that the parser may skip other cells
+         * of the following rows. Rows then contain selected cells only.
+         *
+         * @param columns test of column index to read
+         */
+        default void selectColumns(IntPredicate columns) {
+        }
+
+        /**
+         * @return merged regions of the sheet; a streaming parser may need an extra pass over the sheet to find them
+         */
+        default List<CellRangeAddress> getMergedRegions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,407 @@
+package io.github.nambach.excelutil.core;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Streaming reader for .xlsx files. Sheet XML is pulled element by element with StAX,
+ * shared strings and styles are the only workbook-wide parts kept in memory.
+ */
+@Log4j2
+class XSSFStreamingReader extends StreamingReader {
+    private static final XMLInputFactory XML_FACTORY = XMLHelper.newXMLInputFactory();
+
+    private final OPCPackage pkg;
+    private final SharedStrings sharedStrings;
+    private final StylesTable stylesTable;
+    private final int stringCacheSize;
+    private final Map<Integer, CellStyle> styles = new ConcurrentHashMap<>();
+    private final List<String> sheetNames = new ArrayList<>();
+    private final List<PackagePart> sheetParts = new ArrayList<>();
+    private boolean date1904;
+
+    @SneakyThrows
+    XSSFStreamingReader(OPCPackage pkg, int stringCacheSize) {
+        this.pkg = pkg;
+        this.stringCacheSize = stringCacheSize;
+
+        XSSFReader reader = new XSSFReader(pkg);
+        this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styleParts = reader.getStylesTable();
+        this.stylesTable = styleParts != null ? styleParts : new StylesTable();
+
+        XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (iterator.hasNext()) {
+            iterator.next().close();
+            sheetNames.add(iterator.getSheetName());
+            sheetParts.add(iterator.getSheetPart());
+        }
+
+        try (InputStream workbookData = reader.getWorkbookData()) {
+            readWorkbookProperties(workbookData);
+        }
+    }
+
+    private void readWorkbookProperties(InputStream workbookData) throws Exception {
+        XMLStreamReader xml = XML_FACTORY.createXMLStreamReader(workbookData);
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String name = xml.getLocalName();
+                if (name.equals("workbookPr")) {
+                    String value = xml.getAttributeValue(null, "date1904");
+                    date1904 = "1".equals(value) || "true".equals(value);
+                    return;
+                }
+                if (name.equals("sheets")) {
+                    return;
+                }
+            }
+        } finally {
+            xml.close();
+        }
+    }
+
+    @Override
+    List<String> getSheetNames() {
+        return sheetNames;
+    }
+
+    @Override
+    SheetRows parseSheet(int index) {
+        return new XSSFSheetRows(sheetParts.get(index));
+    }
+
+    private CellStyle getStyle(int index) {
+        return styles.computeIfAbsent(index, i -> {
+            CellStyle style = i < stylesTable.getNumCellStyles() ? stylesTable.getStyleAt(i) : null;
+            return style != null ? style : stylesTable.getStyleAt(0);
+        });
+    }
+
+    @Override
+    void closeSource() {
+        pkg.revert();
+    }
+
+    /**
+     * Convert a cell reference (e.g. "AB12") to its column index.
+     */
+    static int parseColumn(String reference) {
+        int col = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            col = col * 26 + (c - 'A' + 1);
+        }
+        return col - 1;
+    }
+
+    /**
+     * Pulls the {@code <row>} elements of a worksheet part.
+     */
+    private class XSSFSheetRows implements SheetRows {
+        private final PackagePart part;
+        private final InputStream stream;
+        private final XMLStreamReader xml;
+        private final StringCache strings;
+        private StreamingRow nextRow;
+        private int lastRowNum = -1;
+        private int skipFrom = -1;
+        private int skipTo = -1;
+        private IntPredicate columns;
+        private List<CellRangeAddress> mergedRegions;
+        private boolean finished;
+
+        @SneakyThrows
+        XSSFSheetRows(PackagePart part) {
+            this.part = part;
+            this.stream = part.getInputStream();
+            this.xml = XML_FACTORY.createXMLStreamReader(stream);
+            this.strings = stringCacheSize > 0 ? new StringCache(stringCacheSize) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null && !finished) {
+                nextRow = parseNextRow();
+                if (nextRow == null) {
+                    close();
+                }
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public void skipRows(int fromIndex, int toIndex) {
+            this.skipFrom = fromIndex;
+            this.skipTo = toIndex;
+        }
+
+        @Override
+        public void selectColumns(IntPredicate columns) {
+            this.columns = columns;
+        }
+
+        /**
+         * Merged regions are listed after the sheet data, so they are found by a separate
+         * pass over the sheet part, which skips through the rows without reading cells.
+         */
+        @Override
+        @SneakyThrows
+        public List<CellRangeAddress> getMergedRegions() {
+            if (mergedRegions != null) {
+                return mergedRegions;
+            }
+            mergedRegions = new ArrayList<>();
+            try (InputStream partStream = part.getInputStream()) {
+                XMLStreamReader scan = XML_FACTORY.createXMLStreamReader(partStream);
+                try {
+                    while (scan.hasNext()) {
+                        if (scan.next() != XMLStreamConstants.START_ELEMENT) {
+                            continue;
+                        }
+                        if (scan.getLocalName().equals("mergeCell")) {
+                            String ref = scan.getAttributeValue(null, "ref");
+                            if (ref != null) {
+                                mergedRegions.add(CellRangeAddress.valueOf(ref));
+                            }
+                        }
+                    }
+                } finally {
+                    scan.close();
+                }
+            }
+            return mergedRegions;
+        }
+
+        @Override
+        public StreamingRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StreamingRow row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        @SneakyThrows
+        private StreamingRow parseNextRow() {
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("row")) {
+                    if (!skipRow()) {
+                        return parseRow();
+                    }
+                }
+                if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("sheetData")) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Skip the current row element without creating its cells, if it is in the skipped range.
+         */
+        private boolean skipRow() throws Exception {
+            if (skipTo < 0) {
+                return false;
+            }
+            String ref = xml.getAttributeValue(null, "r");
+            int rowNum = ref != null ? Integer.parseInt(ref) - 1 : lastRowNum + 1;
+            if (rowNum < skipFrom || rowNum > skipTo) {
+                return false;
+            }
+            lastRowNum = rowNum;
+            skipElement();
+            return true;
+        }
+
+        /**
+         * Move past the end of the current element.
+         */
+        private void skipElement() throws Exception {
+            int depth = 1;
+            while (depth > 0 && xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        }
+
+        private StreamingRow parseRow() throws Exception {
+            String ref = xml.getAttributeValue(null, "r");
+            int rowNum = ref != null ? Integer.parseInt(ref) - 1 : lastRowNum + 1;
+            lastRowNum = rowNum;
+
+            StreamingRow row = new StreamingRow(rowNum);
+            int nextCol = 0;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("c")) {
+                    String cellRef = xml.getAttributeValue(null, "r");
+                    int col = cellRef != null ? parseColumn(cellRef) : nextCol;
+                    nextCol = col + 1;
+                    if (columns != null && !columns.test(col)) {
+                        // value of an unread column is never decoded
+                        skipElement();
+                        continue;
+                    }
+                    row.addCell(parseCell(row, col));
+                } else if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("row")) {
+                    break;
+                }
+            }
+            return row;
+        }
+
+        private StreamingCell parseCell(StreamingRow row, int col) throws Exception {
+            String type = xml.getAttributeValue(null, "t");
+            String style = xml.getAttributeValue(null, "s");
+
+            CellStyle cellStyle = getStyle(style != null ? Integer.parseInt(style) : 0);
+            StreamingCell cell = new StreamingCell(row, col, cellStyle, date1904);
+
+            String value = null;
+            String inlineText = null;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if (name.equals("v")) {
+                        value = xml.getElementText();
+                    } else if (name.equals("f")) {
+                        cell.setFormula(xml.getElementText());
+                    } else if (name.equals("is")) {
+                        inlineText = readInlineString();
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("c")) {
+                    break;
+                }
+            }
+
+            fillValue(cell, type, value, inlineText);
+            return cell;
+        }
+
+        /**
+         * Concatenate the text runs of an {@code <is>} element, ignoring phonetic runs.
+         */
+        private String readInlineString() throws Exception {
+            StringBuilder builder = new StringBuilder();
+            int phoneticDepth = 0;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if (name.equals("rPh")) {
+                        phoneticDepth++;
+                    } else if (name.equals("t") && phoneticDepth == 0) {
+                        builder.append(xml.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if (name.equals("rPh")) {
+                        phoneticDepth--;
+                    } else if (name.equals("is")) {
+                        break;
+                    }
+                }
+            }
+            return builder.toString();
+        }
+
+        private void fillValue(StreamingCell cell, String type, String value, String inlineText) {
+            if (type == null || type.equals("n")) {
+                if (value != null && !value.isEmpty()) {
+                    cell.setNumeric(Double.parseDouble(value));
+                }
+                return;
+            }
+            switch (type) {
+                case "s":
+                    if (value != null) {
+                        int index = Integer.parseInt(value);
+                        cell.setString(strings != null
+                                       ? strings.get(index, this::getSharedString)
+                                       : getSharedString(index));
+                    }
+                    break;
+                case "inlineStr":
+                    cell.setString(intern(inlineText != null ? inlineText : ""));
+                    break;
+                case "b":
+                    if (value != null) {
+                        cell.setBoolean("1".equals(value) || "true".equalsIgnoreCase(value));
+                    }
+                    break;
+                case "e":
+                    cell.setError(parseError(value));
+                    break;
+                default:
+                    // "str" (formula result) and "d" (ISO date text)
+                    cell.setString(intern(value != null ? value : ""));
+                    break;
+            }
+        }
+
+        private String getSharedString(int index) {
+            return sharedStrings.getItemAt(index).getString();
+        }
+
+        private String intern(String value) {
+            return strings != null ? strings.intern(value) : value;
+        }
+
+        private byte parseError(String value) {
+            try {
+                return FormulaError.forString(value).getCode();
+            } catch (Exception e) {
+                return FormulaError.VALUE.getCode();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                xml.close();
+                stream.close();
+            } catch (Exception e) {
+                log.error("Error while closing sheet stream.", e);
+            }
+        }
+    }
+}
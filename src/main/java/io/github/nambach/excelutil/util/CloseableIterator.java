@@ -0,0 +1,13 @@
+package io.github.nambach.excelutil.util;
+
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} that holds resources until it is exhausted or closed.
+ *
+ * @param <T> element type
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+    @Override
+    void close();
+}
@@ -1,9 +1,14 @@
 package io.github.nambach.excelutil.validator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
 @Getter
@@ -11,6 +16,11 @@ public class Constraint {
     private final String name;
     private final String message;
     private Predicate<?> condition;
+    // optional checks of unboxed numbers, agreeing with the condition on boxed ones
+    @Getter(AccessLevel.NONE)
+    private LongPredicate longCondition;
+    @Getter(AccessLevel.NONE)
+    private DoublePredicate doubleCondition;
 
     public Constraint(String name, Predicate<?> condition, String message) {
         this.name = name;
@@ -18,6 +28,20 @@ public class Constraint {
         this.message = message;
     }
 
+    /**
+     * Check numbers without boxing them. Both conditions must give the same result
+     * as the main condition on the boxed value; a null condition falls back to it.
+     *
+     * @param longCondition   condition on long values, may be null
+     * @param doubleCondition condition on double values, may be null
+     * @return current constraint
+     */
+    public Constraint primitive(LongPredicate longCondition, DoublePredicate doubleCondition) {
+        this.longCondition = longCondition;
+        this.doubleCondition = doubleCondition;
+        return this;
+    }
+
     public Constraint nullable() {
         this.condition = this.condition.or(Objects::isNull);
         return this;
@@ -25,7 +49,8 @@ public class Constraint {
 
     public Constraint withMessage(String message) {
         Objects.requireNonNull(message, "Validation message must not be null.");
-        return new Constraint(this.name, this.condition, message);
+        return new Constraint(this.name, this.condition, message)
+                .primitive(this.longCondition, this.doubleCondition);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -38,6 +63,14 @@ public class Constraint {
         return !((Predicate) condition).test(value);
     }
 
+    public boolean notOk(long value) {
+        return longCondition != null ? !longCondition.test(value) : notOk((Object) value);
+    }
+
+    public boolean notOk(double value) {
+        return doubleCondition != null ? !doubleCondition.test(value) : notOk((Object) value);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Constraint) {
@@ -47,14 +80,89 @@ public class Constraint {
     }
 
     public static class Set extends LinkedHashSet<Constraint> {
+        private static final Constraint[] EMPTY = new Constraint[0];
+
+        // snapshot for checking values without an iterator, reset after every change;
+        // volatile since validators are shared by threads reading in parallel
+        private volatile Constraint[] array;
+
         @Override
         public boolean add(Constraint item) {
             // Get rid of old one.
             boolean wasThere = removeIf(i -> i.equals(item));
             // Add it.
             super.add(item);
+            array = null;
             // Contract is "true if this set did not already contain the specified element"
             return !wasThere;
         }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean removed = super.remove(o);
+            array = null;
+            return removed;
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Constraint> filter) {
+            boolean removed = super.removeIf(filter);
+            array = null;
+            return removed;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            boolean removed = super.removeAll(c);
+            array = null;
+            return removed;
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            boolean removed = super.retainAll(c);
+            array = null;
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            array = null;
+        }
+
+        @Override
+        public Iterator<Constraint> iterator() {
+            Iterator<Constraint> iterator = super.iterator();
+            return new Iterator<Constraint>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Constraint next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    array = null;
+                }
+            };
+        }
+
+        /**
+         * @return constraints in order, as an array that must not be modified
+         */
+        public Constraint[] asArray() {
+            Constraint[] result = array;
+            if (result == null) {
+                result = toArray(EMPTY);
+                array = result;
+            }
+            return result;
+        }
     }
 }
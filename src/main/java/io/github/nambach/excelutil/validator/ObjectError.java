@@ -1,21 +1,23 @@
 package io.github.nambach.excelutil.validator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import static io.github.nambach.excelutil.util.ListUtil.findElse;
-
 @Getter
 public class ObjectError implements Iterable<FieldError> {
 
     private final Class<?> clazz;
     private final String className;
     private final List<FieldError> fieldErrors = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, FieldError> fieldErrorMap = new HashMap<>();
 
     public ObjectError(Class<?> clazz) {
         this.clazz = clazz;
@@ -31,9 +33,11 @@ public class ObjectError implements Iterable<FieldError> {
     }
 
     public void appendError(String fieldName, List<String> messages) {
-        FieldError current = findElse(fieldErrors,
-                                      e -> Objects.equals(e.getFieldName(), fieldName),
-                                      new FieldError(fieldName));
+        FieldError current = fieldErrorMap.computeIfAbsent(fieldName, name -> {
+            FieldError fieldError = new FieldError(name);
+            fieldErrors.add(fieldError);
+            return fieldError;
+        });
         current.append(messages);
     }
 
@@ -12,7 +12,9 @@ import static io.github.nambach.excelutil.validator.builtin.Util.isInstanceOf;
 class DecimalConstraint {
     static final Constraint IsDecimal = new Constraint("[Decimal] is decimal",
                                                        o -> isInstanceOf(DECIMAL, o),
-                                                       "must be a decimal").nullable();
+                                                       "must be a decimal")
+                    .primitive(v -> true, v -> true)
+                    .nullable();
 
     static final Function<Double, Constraint> MinDecimal =
             min -> new Constraint("[Decimal] min value",
@@ -22,7 +24,9 @@ class DecimalConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("minimum value is %f", min)).nullable();
+                                  String.format("minimum value is %f", min))
+                    .primitive(null, v -> compareWithDouble(v, min.doubleValue()) >= 0)
+                    .nullable();
 
     static final Function<Double, Constraint> MaxDecimal =
             max -> new Constraint("[Decimal] max value",
@@ -32,7 +36,9 @@ class DecimalConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("maximum value is %f", max)).nullable();
+                                  String.format("maximum value is %f", max))
+                    .primitive(null, v -> compareWithDouble(v, max.doubleValue()) <= 0)
+                    .nullable();
 
     static final BiFunction<Double, Double, Constraint> BetweenDecimal =
             (min, max) -> new Constraint("[Decimal] inclusively between",
@@ -42,7 +48,10 @@ class DecimalConstraint {
                                              }
                                              return false;
                                          },
-                                         String.format("value must be from %f to %f", min, max)).nullable();
+                                         String.format("value must be from %f to %f", min, max))
+                    .primitive(null, v -> compareWithDouble(v, min.doubleValue()) >= 0
+                                     && compareWithDouble(v, max.doubleValue()) <= 0)
+                    .nullable();
 
     static final Function<Double, Constraint> GreaterThanDecimal =
             min -> new Constraint("[Decimal] greater than value",
@@ -52,7 +61,9 @@ class DecimalConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("value must be greater than %f", min)).nullable();
+                                  String.format("value must be greater than %f", min))
+                    .primitive(null, v -> compareWithDouble(v, min.doubleValue()) > 0)
+                    .nullable();
 
     static final Function<Double, Constraint> LessThanDecimal =
             max -> new Constraint("[Decimal] less than value",
@@ -62,7 +73,9 @@ class DecimalConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("value must be less than %f", max)).nullable();
+                                  String.format("value must be less than %f", max))
+                    .primitive(null, v -> compareWithDouble(v, max.doubleValue()) < 0)
+                    .nullable();
 
     static final BiFunction<Double, Double, Constraint> BetweenDecimalExclusive =
             (min, max) -> new Constraint("[Decimal] exclusively between",
@@ -72,5 +85,8 @@ class DecimalConstraint {
                                              }
                                              return false;
                                          },
-                                         String.format("value must be greater than %f and less than %f", min, max)).nullable();
+                                         String.format("value must be greater than %f and less than %f", min, max))
+                    .primitive(null, v -> compareWithDouble(v, min.doubleValue()) > 0
+                                     && compareWithDouble(v, max.doubleValue()) < 0)
+                    .nullable();
 }
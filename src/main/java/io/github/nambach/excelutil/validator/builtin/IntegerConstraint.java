@@ -14,7 +14,9 @@ class IntegerConstraint {
     static final Constraint IsInteger =
             new Constraint("[Integer] is integer",
                            o -> isInstanceOf(INT, o),
-                           "must be an integer").nullable();
+                           "must be an integer")
+                    .primitive(v -> true, v -> false)
+                    .nullable();
 
     static final Function<Long, Constraint> MinInteger =
             min -> new Constraint("[Integer] min value",
@@ -24,7 +26,9 @@ class IntegerConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("minimum value is %d", min)).nullable();
+                                  String.format("minimum value is %d", min))
+                    .primitive(v -> v >= min, v -> false)
+                    .nullable();
 
     static final Function<Long, Constraint> MaxInteger =
             max -> new Constraint("[Integer] max value",
@@ -34,7 +38,9 @@ class IntegerConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("maximum value is %d", max)).nullable();
+                                  String.format("maximum value is %d", max))
+                    .primitive(v -> v <= max, v -> false)
+                    .nullable();
 
     static final BiFunction<Long, Long, Constraint> BetweenInteger =
             (min, max) -> new Constraint("[Integer] boundary",
@@ -44,7 +50,9 @@ class IntegerConstraint {
                                              }
                                              return false;
                                          },
-                                         String.format("must be from %d to %d", min, max)).nullable();
+                                         String.format("must be from %d to %d", min, max))
+                    .primitive(v -> v >= min && v <= max, v -> false)
+                    .nullable();
 
     static final Function<Long, Constraint> GreaterThanInteger =
             min -> new Constraint("[Integer] greater than value",
@@ -54,7 +62,9 @@ class IntegerConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("value must be greater than %d", min)).nullable();
+                                  String.format("value must be greater than %d", min))
+                    .primitive(v -> v > min, v -> false)
+                    .nullable();
 
     static final Function<Long, Constraint> LessThanInteger =
             max -> new Constraint("[Integer] less than value",
@@ -64,7 +74,9 @@ class IntegerConstraint {
                                       }
                                       return false;
                                   },
-                                  String.format("value must be less than %d", max)).nullable();
+                                  String.format("value must be less than %d", max))
+                    .primitive(v -> v < max, v -> false)
+                    .nullable();
 
     static final BiFunction<Long, Long, Constraint> BetweenIntegerExclusive =
             (min, max) -> new Constraint("[Integer] exclusive boundary",
@@ -74,7 +86,9 @@ class IntegerConstraint {
                                              }
                                              return false;
                                          },
-                                         String.format("value must be greater than %d and less than %d", min, max)).nullable();
+                                         String.format("value must be greater than %d and less than %d", min, max))
+                    .primitive(v -> v > min && v < max, v -> false)
+                    .nullable();
 
     private IntegerConstraint() {
     }
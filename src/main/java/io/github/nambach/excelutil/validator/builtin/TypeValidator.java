@@ -5,11 +5,11 @@ import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 @Getter(AccessLevel.PACKAGE)
 public class TypeValidator {
@@ -50,17 +50,67 @@ public class TypeValidator {
     }
 
     public String quickTest(Object value) {
-        return constraints.stream()
-                          .filter(constraint -> constraint.notOk(value))
-                          .map(Constraint::getMessage)
-                          .findFirst().orElse(null);
-    }
-
+        for (Constraint constraint : constraints.asArray()) {
+            if (constraint.notOk(value)) {
+                return constraint.getMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param value value to check
+     * @return messages of failed constraints; the list is only allocated when a constraint fails
+     */
     public List<String> test(Object value) {
-        return constraints.stream()
-                          .filter(constraint -> constraint.notOk(value))
-                          .map(Constraint::getMessage)
-                          .collect(Collectors.toList());
+        List<String> messages = null;
+        for (Constraint constraint : constraints.asArray()) {
+            if (constraint.notOk(value)) {
+                if (messages == null) {
+                    messages = new ArrayList<>();
+                }
+                messages.add(constraint.getMessage());
+            }
+        }
+        return messages != null ? messages : Collections.emptyList();
+    }
+
+    /**
+     * Same as {@link #test(Object)}, without boxing the value for built-in constraints.
+     *
+     * @param value value to check
+     * @return messages of failed constraints
+     */
+    public List<String> testLong(long value) {
+        List<String> messages = null;
+        for (Constraint constraint : constraints.asArray()) {
+            if (constraint.notOk(value)) {
+                if (messages == null) {
+                    messages = new ArrayList<>();
+                }
+                messages.add(constraint.getMessage());
+            }
+        }
+        return messages != null ? messages : Collections.emptyList();
+    }
+
+    /**
+     * Same as {@link #test(Object)}, without boxing the value for built-in constraints.
+     *
+     * @param value value to check
+     * @return messages of failed constraints
+     */
+    public List<String> testDouble(double value) {
+        List<String> messages = null;
+        for (Constraint constraint : constraints.asArray()) {
+            if (constraint.notOk(value)) {
+                if (messages == null) {
+                    messages = new ArrayList<>();
+                }
+                messages.add(constraint.getMessage());
+            }
+        }
+        return messages != null ? messages : Collections.emptyList();
     }
 
     public TypeValidator notNull() {
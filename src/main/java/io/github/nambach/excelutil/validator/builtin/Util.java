@@ -10,11 +10,21 @@ public class Util {
     static final List<Class<?>> INT = Arrays.asList(Byte.class, Short.class, Integer.class, Long.class);
     static final List<Class<?>> DECIMAL = Arrays.asList(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
 
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
     private Util() {
     }
 
     public static <T> boolean isInstanceOf(Collection<Class<?>> classes, T obj) {
-        return classes.stream().anyMatch(aClass -> aClass.isInstance(obj));
+        if (obj == null) {
+            return false;
+        }
+        for (Class<?> aClass : classes) {
+            if (aClass.isInstance(obj)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -26,10 +36,45 @@ public class Util {
      * @return compared value
      */
     public static <T> int compareWithLong(T number, long value) {
+        if (isIntegral(number)) {
+            return Long.compare(((Number) number).longValue(), value);
+        }
         return new BigInteger(number.toString()).compareTo(new BigInteger(Long.toString(value)));
     }
 
     public static <T> int compareWithDouble(T number, double value) {
+        // finite doubles, and longs that convert exactly, compare the same as their decimal forms
+        if (Double.isFinite(value)) {
+            if (number instanceof Double && Double.isFinite((Double) number)) {
+                return compare((Double) number, value);
+            }
+            if (isIntegral(number) && Math.abs(((Number) number).longValue()) <= MAX_EXACT_LONG) {
+                return compare(((Number) number).longValue(), value);
+            }
+        }
         return new BigDecimal(number.toString()).compareTo(new BigDecimal(Double.toString(value)));
     }
+
+    /**
+     * See {@link #compareWithDouble(Object, double)}.
+     *
+     * @param number a double
+     * @param value  double value
+     * @return compared value
+     */
+    public static int compareWithDouble(double number, double value) {
+        if (Double.isFinite(value) && Double.isFinite(number)) {
+            return compare(number, value);
+        }
+        return new BigDecimal(Double.toString(number)).compareTo(new BigDecimal(Double.toString(value)));
+    }
+
+    private static boolean isIntegral(Object number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static int compare(double a, double b) {
+        // unlike Double.compare, 0.0 and -0.0 are equal
+        return a < b ? -1 : (a > b ? 1 : 0);
+    }
 }
@@ -0,0 +1,11 @@
+package model;
+
+import lombok.Value;
+
+@Value
+public class ImmutableLine {
+    String name;
+    int quantity;
+    double total;
+    Boolean paid;
+}
@@ -0,0 +1,14 @@
+package model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class Line {
+    private String name;
+    private int quantity;
+    private double total;
+    private Boolean paid;
+    private String category;
+}
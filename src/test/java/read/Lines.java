@@ -0,0 +1,80 @@
+package read;
+
+import io.github.nambach.excelutil.core.DataTemplate;
+import io.github.nambach.excelutil.core.ReaderConfig;
+import lombok.SneakyThrows;
+import model.Book;
+import model.Line;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * Workbooks of order lines shared by reading tests.
+ */
+final class Lines {
+
+    static final DataTemplate<Book> BOOK_TEMPLATE = TestReadConfig.BOOK_TEMPLATE;
+
+    static ReaderConfig<Line> lineConfig() {
+        return ReaderConfig
+                .fromClass(Line.class)
+                .titleAtRow(0)
+                .dataFromRow(1)
+                .column("Name", "name")
+                .column("Quantity", "quantity", v -> v.isInteger().min(1))
+                .column("Total", "total")
+                .column("Paid", "paid");
+    }
+
+    static byte[] createLines() {
+        return createLines("Lines");
+    }
+
+    @SneakyThrows
+    static byte[] createLines(String... sheetNames) {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String sheetName : sheetNames) {
+                writeLines(workbook.createSheet(sheetName));
+            }
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    static void writeLines(Sheet sheet) {
+        Row title = sheet.createRow(0);
+        title.createCell(0).setCellValue("Name");
+        title.createCell(1).setCellValue("Quantity");
+        title.createCell(2).setCellValue("Price");
+        title.createCell(3).setCellValue("Total");
+        title.createCell(4).setCellValue("Paid");
+        for (int i = 1; i <= 5; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("Item " + i);
+            row.createCell(1).setCellValue(i - 1);
+            row.createCell(2).setCellValue(1.5);
+            row.createCell(3).setCellFormula("B" + (i + 1) + "*C" + (i + 1));
+            row.createCell(4).setCellValue(i % 2 == 0);
+        }
+    }
+
+    @SneakyThrows
+    static byte[] toBytes(InputStream stream) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private Lines() {
+    }
+}
@@ -0,0 +1,61 @@
+package read;
+
+import io.github.nambach.excelutil.core.Aggregation;
+import io.github.nambach.excelutil.core.AggregationResult;
+import io.github.nambach.excelutil.core.ReaderConfig;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+
+public class TestAggregation {
+
+    @Test
+    public void aggregateWhileStreaming() {
+        byte[] file = createLines();
+        Aggregation byPaid = Aggregation.groupBy("paid").summarize("total", "quantity");
+        for (boolean streaming : new boolean[]{false, true}) {
+            AggregationResult groups = lineConfig().streaming(streaming)
+                                                   .aggregate(new ByteArrayInputStream(file), byPaid);
+
+            Assert.assertEquals(2, groups.size());
+            Assert.assertEquals(1, groups.getErrors().size());
+            AggregationResult.Group unpaid = groups.getGroup(false);
+            Assert.assertEquals(3, unpaid.getCount());
+            Assert.assertEquals(9.0, unpaid.getSum("total"), 0);
+            Assert.assertEquals(0.0, unpaid.getMin("total"), 0);
+            Assert.assertEquals(4.0, unpaid.getMax("quantity"), 0);
+            AggregationResult.Group paid = groups.getGroup(true);
+            Assert.assertEquals(2, paid.getCount("quantity"));
+            Assert.assertEquals(6.0, paid.getSum("total"), 0);
+        }
+    }
+
+    @Test
+    public void skipRowOnExit() {
+        byte[] file = createLines();
+        Aggregation byPaid = Aggregation.groupBy("paid").summarize("quantity", "total");
+        for (boolean streaming : new boolean[]{false, true}) {
+            // the total of item 4 fails after its quantity is read
+            AggregationResult groups = ReaderConfig.fromClass(Line.class)
+                                                   .titleAtRow(0)
+                                                   .dataFromRow(1)
+                                                   .column("Quantity", "quantity")
+                                                   .column("Total", "total", v -> v.isDecimal().max(4.0))
+                                                   .column("Paid", "paid")
+                                                   .exitWhenValidationFailed(true)
+                                                   .streaming(streaming)
+                                                   .aggregate(new ByteArrayInputStream(file), byPaid);
+
+            AggregationResult.Group paid = groups.getGroup(true);
+            Assert.assertEquals(1, paid.getCount());
+            Assert.assertEquals(1.0, paid.getSum("quantity"), 0);
+            Assert.assertEquals(1, paid.getCount("total"));
+            Assert.assertEquals(2, groups.getGroup(false).getCount());
+        }
+    }
+}
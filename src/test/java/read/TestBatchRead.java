@@ -0,0 +1,61 @@
+package read;
+
+import io.github.nambach.excelutil.core.Result;
+import io.github.nambach.excelutil.core.RowError;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+
+public class TestBatchRead {
+
+    @Test
+    public void readInBatches() {
+        byte[] file = createLines();
+        List<Result<Line>> batches = new ArrayList<>();
+        lineConfig().streaming(true).readSheet(new ByteArrayInputStream(file), 2, batches::add);
+
+        Assert.assertEquals(3, batches.size());
+        Assert.assertEquals(Arrays.asList(2, 2, 1), batches.stream().map(Result::size).collect(Collectors.toList()));
+        Assert.assertEquals(1, batches.get(0).getErrors().size());
+        Assert.assertTrue(batches.get(1).noError());
+    }
+
+    @Test
+    public void consumeBatchesAsynchronously() {
+        byte[] file = createLines();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<String> names = new ArrayList<>();
+        try {
+            lineConfig().readSheet(new ByteArrayInputStream(file), 0, 2,
+                                   batch -> batch.forEach(line -> names.add(line.getName())), executor);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(Arrays.asList("Item 1", "Item 2", "Item 3", "Item 4", "Item 5"), names);
+    }
+
+    @Test
+    public void reportErrorsOfFullBatch() {
+        byte[] file = createLines();
+        List<RowError> reported = new ArrayList<>();
+        List<Result<Line>> batches = new ArrayList<>();
+        lineConfig().onRowError(reported::add)
+                    .readSheet(new ByteArrayInputStream(file), 1, batches::add);
+
+        Assert.assertEquals(5, batches.size());
+        Assert.assertEquals(1, batches.get(0).getErrors().size());
+        Assert.assertEquals(1, reported.size());
+        Assert.assertEquals(1, reported.get(0).getIndex());
+    }
+}
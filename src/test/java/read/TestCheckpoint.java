@@ -0,0 +1,44 @@
+package read;
+
+import io.github.nambach.excelutil.core.Checkpoint;
+import io.github.nambach.excelutil.core.Result;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+
+public class TestCheckpoint {
+
+    @Test
+    public void resumeFromCheckpoint() {
+        byte[] file = createLines();
+        List<Checkpoint> checkpoints = new ArrayList<>();
+        lineConfig().streaming(true)
+                     .onCheckpoint(2, checkpoints::add)
+                     .readSheet(new ByteArrayInputStream(file));
+        Assert.assertEquals(Arrays.asList(new Checkpoint(0, 2), new Checkpoint(0, 4)), checkpoints);
+
+        for (boolean streaming : new boolean[]{false, true}) {
+            Result<Line> lines = lineConfig().streaming(streaming)
+                                             .resumeFrom(checkpoints.get(0))
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(Arrays.asList("Item 3", "Item 4", "Item 5"),
+                                lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertTrue(lines.noError());
+        }
+
+        checkpoints.clear();
+        lineConfig().onCheckpoint(1, checkpoints::add)
+                     .readSheet(new ByteArrayInputStream(file), 2, batch -> {
+                     });
+        Assert.assertEquals(Arrays.asList(new Checkpoint(0, 2), new Checkpoint(0, 4), new Checkpoint(0, 5)), checkpoints);
+    }
+}
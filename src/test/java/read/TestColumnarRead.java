@@ -0,0 +1,65 @@
+package read;
+
+import io.github.nambach.excelutil.core.ColumnarResult;
+import io.github.nambach.excelutil.core.ReaderConfig;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+
+public class TestColumnarRead {
+
+    @Test
+    public void readIntoColumns() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            ColumnarResult columns = lineConfig().streaming(streaming).readColumns(new ByteArrayInputStream(file));
+
+            Assert.assertEquals(5, columns.size());
+            Assert.assertEquals(1, columns.getErrors().size());
+            ColumnarResult.LongColumn quantity = columns.getLongColumn("quantity");
+            ColumnarResult.DoubleColumn total = columns.getDoubleColumn("total");
+            ColumnarResult.StringColumn name = columns.getStringColumn("name");
+            ColumnarResult.BooleanColumn paid = columns.getBooleanColumn("paid");
+            long sum = 0;
+            for (int i = 0; i < columns.size(); i++) {
+                sum += quantity.getLong(i);
+            }
+            Assert.assertEquals(10, sum);
+            Assert.assertEquals(6.0, total.getDouble(4), 0);
+            Assert.assertEquals("Item 3", name.get(2));
+            Assert.assertEquals(5, name.getDictionary().size());
+            Assert.assertTrue(paid.getBoolean(1));
+            Assert.assertFalse(paid.isNull(0));
+        }
+    }
+
+    @Test
+    public void dropRowOnExit() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            // the total of item 4 fails after its name and quantity are read
+            ColumnarResult columns = ReaderConfig.fromClass(Line.class)
+                                                 .titleAtRow(0)
+                                                 .dataFromRow(1)
+                                                 .column("Name", "name")
+                                                 .column("Quantity", "quantity")
+                                                 .column("Total", "total", v -> v.isDecimal().max(4.0))
+                                                 .column("Paid", "paid")
+                                                 .exitWhenValidationFailed(true)
+                                                 .streaming(streaming)
+                                                 .readColumns(new ByteArrayInputStream(file));
+
+            Assert.assertEquals(3, columns.size());
+            for (ColumnarResult.Column column : columns.getColumns()) {
+                Assert.assertEquals(column.getFieldName(), 3, column.size());
+            }
+            Assert.assertEquals("Item 3", columns.getStringColumn("name").get(2));
+            Assert.assertEquals(1, columns.getErrors().size());
+        }
+    }
+}
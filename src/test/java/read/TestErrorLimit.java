@@ -0,0 +1,126 @@
+package read;
+
+import io.github.nambach.excelutil.core.ReaderConfig;
+import io.github.nambach.excelutil.core.Result;
+import io.github.nambach.excelutil.core.RowError;
+import io.github.nambach.excelutil.validator.Constraint;
+import io.github.nambach.excelutil.validator.builtin.TypeValidator;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+
+import static read.Lines.createLines;
+import static read.Lines.lineConfig;
+
+public class TestErrorLimit {
+
+    @Test
+    public void limitErrors() {
+        byte[] file = createLines();
+        Result<Line> lines = ReaderConfig
+                .fromClass(Line.class)
+                .titleAtRow(0)
+                .column("Name", "name", v -> v.isString().minLength(10))
+                .column("Quantity", "quantity", v -> v.isInteger().min(10))
+                .column("Total", "total")
+                .column("Paid", "paid")
+                .maxErrors(3)
+                .maxErrorsPerRow(1)
+                .readSheet(new ByteArrayInputStream(file));
+
+        Assert.assertEquals(5, lines.size());
+        Assert.assertEquals(3, lines.getErrors().size());
+        lines.getErrors().forEach(error -> Assert.assertEquals(1, error.getObjectError().getFieldErrors().size()));
+        Assert.assertTrue(lines.isErrorLimitReached());
+    }
+
+    @Test
+    public void validateBounds() {
+        TypeValidator integer = TypeValidator.integer().between(1, 10);
+        Assert.assertTrue(integer.test(1L).isEmpty());
+        Assert.assertTrue(integer.test(10L).isEmpty());
+        Assert.assertEquals(1, integer.test(11L).size());
+        Assert.assertEquals(1, integer.test(Long.MIN_VALUE).size());
+
+        TypeValidator decimal = TypeValidator.decimal().min(0.1).lessThan(10);
+        Assert.assertTrue(decimal.test(0.1).isEmpty());
+        Assert.assertTrue(decimal.test(9L).isEmpty());
+        Assert.assertEquals(1, decimal.test(0.09999999999999999).size());
+        Assert.assertEquals(1, decimal.test(10.0).size());
+        Assert.assertTrue(decimal.test(0.1f).isEmpty());
+        Assert.assertEquals(1, decimal.test(Long.MAX_VALUE).size());
+
+        // unboxed checks agree with boxed ones
+        Assert.assertTrue(integer.testLong(10).isEmpty());
+        Assert.assertEquals(1, integer.testLong(11).size());
+        Assert.assertEquals(integer.test(1.5), integer.testDouble(1.5));
+        Assert.assertTrue(decimal.testDouble(0.1).isEmpty());
+        Assert.assertEquals(1, decimal.testDouble(0.09999999999999999).size());
+        Assert.assertEquals(1, decimal.testLong(Long.MAX_VALUE).size());
+    }
+
+    @Test
+    public void removeConstraintThroughIterator() {
+        Constraint.Set constraints = new Constraint.Set();
+        constraints.add(new Constraint("positive", o -> ((Long) o) > 0, "must be positive"));
+        Assert.assertEquals(1, constraints.asArray().length);
+
+        Iterator<Constraint> iterator = constraints.iterator();
+        iterator.next();
+        iterator.remove();
+        Assert.assertEquals(0, constraints.asArray().length);
+    }
+
+    @Test
+    public void sampleErrors() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            Result<Line> lines = ReaderConfig
+                    .fromClass(Line.class)
+                    .titleAtRow(0)
+                    .column("Name", "name", v -> v.isString().minLength(10))
+                    .sampleErrors(2)
+                    .keepRawData(false)
+                    .streaming(streaming)
+                    .readSheet(new ByteArrayInputStream(file));
+
+            Assert.assertEquals(5, lines.size());
+            Assert.assertEquals(Arrays.asList(2, 4),
+                                lines.getErrors().stream().map(RowError::getIndex).collect(Collectors.toList()));
+            Assert.assertEquals(3, lines.getSampledOutRows());
+        }
+    }
+
+    @Test
+    public void failOnRowsOutOfSample() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            // item 1 is the only invalid row, and its index is odd
+            ReaderConfig<Line> config = lineConfig().sampleErrors(2).streaming(streaming);
+            Result<Line> lines = config.readSheet(new ByteArrayInputStream(file));
+            Assert.assertTrue(lines.getErrors().isEmpty());
+            Assert.assertEquals(1, lines.getSampledOutRows());
+            Assert.assertTrue(lines.hasErrors());
+
+            try {
+                config.readSheetOrThrow(new ByteArrayInputStream(file), errors -> new IllegalStateException());
+                Assert.fail("Rows out of sample must fail");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+
+            Result<Line> exited = config.exitWhenValidationFailed(true).readSheet(new ByteArrayInputStream(file));
+            Assert.assertTrue(exited.isEmpty());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectNegativeLimit() {
+        lineConfig().maxErrors(-1);
+    }
+}
@@ -0,0 +1,89 @@
+package read;
+
+import io.github.nambach.excelutil.core.ReaderConfig;
+import io.github.nambach.excelutil.core.ReaderIterator;
+import io.github.nambach.excelutil.core.RowError;
+import lombok.SneakyThrows;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+
+public class TestLazyRead {
+
+    @Test
+    public void iterateLazily() {
+        byte[] file = createLines();
+        List<RowError> reported = new ArrayList<>();
+        ReaderConfig<Line> config = lineConfig()
+                .streaming(true)
+                .onRowError(reported::add)
+                .beforeAddingItem((line, row) -> {
+                    if (line.getName().equals("Item 2")) {
+                        row.skipThisObject();
+                    }
+                    if (line.getName().equals("Item 4")) {
+                        row.terminateNow();
+                    }
+                });
+
+        List<String> names = new ArrayList<>();
+        try (ReaderIterator<Line> iterator = config.iterator(new ByteArrayInputStream(file))) {
+            while (iterator.hasNext()) {
+                names.add(iterator.next().getName());
+            }
+            Assert.assertEquals(1, iterator.getErrors().size());
+        }
+        Assert.assertEquals(Arrays.asList("Item 1", "Item 3"), names);
+        Assert.assertEquals(1, reported.size());
+        Assert.assertEquals(1, reported.get(0).getIndex());
+    }
+
+    @Test
+    public void streamWithoutStreamingMode() {
+        byte[] file = createLines();
+        try (Stream<Line> lines = lineConfig().stream(new ByteArrayInputStream(file))) {
+            Assert.assertEquals(Arrays.asList("Item 1", "Item 2"),
+                                lines.limit(2).map(Line::getName).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void closeWorkbookOnFailure() {
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        List<Path> existing;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            existing = files.collect(Collectors.toList());
+        }
+        ReaderConfig<Line> config = lineConfig()
+                .lookup("Products", lineConfig(), Line::getName, Line::getName, (line, other) -> {
+                })
+                .streaming(true);
+        try {
+            config.stream(new ByteArrayInputStream(createLines()), "Lines");
+            Assert.fail("Missing lookup sheet must fail");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("'Products'"));
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            Assert.assertEquals(Collections.emptyList(),
+                                files.filter(path -> path.getFileName().toString().startsWith("excel-util"))
+                                     .filter(path -> !existing.contains(path))
+                                     .collect(Collectors.toList()));
+        }
+    }
+}
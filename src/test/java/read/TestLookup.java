@@ -0,0 +1,131 @@
+package read;
+
+import io.github.nambach.excelutil.core.ReaderConfig;
+import io.github.nambach.excelutil.core.Result;
+import io.github.nambach.excelutil.core.WorkbookReader;
+import lombok.SneakyThrows;
+import model.Line;
+import model.Product;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static read.Lines.lineConfig;
+import static read.Lines.writeLines;
+
+public class TestLookup {
+
+    static ReaderConfig<Product> productConfig() {
+        return ReaderConfig.fromClass(Product.class)
+                           .titleAtRow(0)
+                           .dataFromRow(1)
+                           .column("Product", "name")
+                           .column("Category", "category");
+    }
+
+    /**
+     * Sheets of lines, then products without item 5 and with item 2 twice.
+     */
+    @SneakyThrows
+    static byte[] createOrders(Workbook workbook, String... sheetNames) {
+        try (Workbook wb = workbook; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String sheetName : sheetNames) {
+                writeLines(wb.createSheet(sheetName));
+            }
+            Sheet products = wb.createSheet("Products");
+            products.createRow(0).createCell(0).setCellValue("Product");
+            products.getRow(0).createCell(1).setCellValue("Category");
+            String[][] rows = {{"Item 2", "B"}, {"Item 1", "A"}, {"Item 2", "C"}, {"Item 3", "A"}, {"Item 4", "D"}};
+            for (int i = 0; i < rows.length; i++) {
+                Row row = products.createRow(i + 1);
+                row.createCell(0).setCellValue(rows[i][0]);
+                row.createCell(1).setCellValue(rows[i][1]);
+            }
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    public void joinLookupSheet() {
+        for (Workbook workbook : new Workbook[]{new XSSFWorkbook(), new HSSFWorkbook()}) {
+            byte[] file = createOrders(workbook, "Lines");
+            ReaderConfig<Product> productConfig = productConfig();
+            for (boolean streaming : new boolean[]{false, true}) {
+                List<String> categories = new ArrayList<>();
+                Result<Line> lines = lineConfig()
+                        .lookup("Products", productConfig, Product::getName, Line::getName,
+                                (line, product) -> line.setCategory(product.getCategory()))
+                        .beforeAddingItem((line, row) -> categories.add(line.getCategory()))
+                        .streaming(streaming)
+                        .readSheet(new ByteArrayInputStream(file));
+                Assert.assertEquals(Arrays.asList("A", "B", "A", "D", null), categories);
+                Assert.assertEquals(1, lines.getErrors().size());
+            }
+        }
+    }
+
+    @Test
+    public void indexLookupSheetOnce() {
+        byte[] file = createOrders(new XSSFWorkbook(), "Jan", "Feb", "Mar");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (boolean streaming : new boolean[]{false, true}) {
+                for (ExecutorService sheetExecutor : new ExecutorService[]{null, executor}) {
+                    AtomicInteger indexed = new AtomicInteger();
+                    ReaderConfig<Product> products = productConfig().beforeAddingItem((p, row) -> indexed.incrementAndGet());
+                    ReaderConfig<Line> config = lineConfig()
+                            .lookup("Products", products, Product::getName, Line::getName,
+                                    (line, product) -> line.setCategory(product.getCategory()))
+                            .streaming(streaming);
+                    Map<String, Result<Line>> sheets = sheetExecutor == null
+                                                       ? config.readAllSheets(new ByteArrayInputStream(file))
+                                                       : config.readAllSheets(new ByteArrayInputStream(file), sheetExecutor);
+
+                    Assert.assertEquals(4, sheets.size());
+                    Assert.assertEquals("D", sheets.get("Mar").get(3).getCategory());
+                    Assert.assertEquals(5, indexed.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shareLookupSheetBetweenSections() {
+        byte[] file = createOrders(new XSSFWorkbook(), "Jan", "Feb");
+        for (boolean streaming : new boolean[]{false, true}) {
+            AtomicInteger parsed = new AtomicInteger();
+            ReaderConfig<Product> products = productConfig().beforeAddingItem((p, row) -> parsed.incrementAndGet());
+            WorkbookReader reader = new WorkbookReader().streaming(streaming);
+            WorkbookReader.Section<Line> jan = reader.section("Jan", "A1", lineConfig().lookup(
+                    "Products", products, Product::getName, Line::getName,
+                    (line, product) -> line.setCategory(product.getCategory())));
+            // another key over the same parsed rows
+            WorkbookReader.Section<Line> feb = reader.section("Feb", "A1", lineConfig().lookup(
+                    "Products", products, Product::getCategory, Line::getName,
+                    (line, product) -> line.setCategory(product.getName())));
+            reader.read(new ByteArrayInputStream(file));
+
+            Assert.assertEquals(5, parsed.get());
+            Assert.assertEquals("B", jan.getResult().get(1).getCategory());
+            Assert.assertNull(feb.getResult().get(1).getCategory());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package read;
+
+import io.github.nambach.excelutil.core.ReaderConfig;
+import io.github.nambach.excelutil.core.Result;
+import lombok.SneakyThrows;
+import model.Line;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class TestMergedCells {
+
+    @Test
+    @SneakyThrows
+    public void fillMergedCells() {
+        fillMergedCells(new XSSFWorkbook());
+        fillMergedCells(new HSSFWorkbook());
+    }
+
+    @SneakyThrows
+    private void fillMergedCells(Workbook book) {
+        byte[] file;
+        try (Workbook workbook = book;
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Lines");
+            Row title = sheet.createRow(0);
+            title.createCell(0).setCellValue("Name");
+            title.createCell(1).setCellValue("Quantity");
+            for (int i = 1; i <= 5; i++) {
+                Row row = sheet.createRow(i);
+                if (i == 1 || i == 4) {
+                    row.createCell(0).setCellValue(i == 1 ? "Group A" : "Group B");
+                }
+                if (i != 5) {
+                    row.createCell(1).setCellValue(i);
+                }
+            }
+            sheet.addMergedRegion(CellRangeAddress.valueOf("A2:A4"));
+            sheet.addMergedRegion(CellRangeAddress.valueOf("A5:A6"));
+            sheet.addMergedRegion(CellRangeAddress.valueOf("B5:B6"));
+            workbook.write(out);
+            file = out.toByteArray();
+        }
+
+        for (boolean streaming : new boolean[]{false, true}) {
+            ReaderConfig<Line> config = ReaderConfig.fromClass(Line.class)
+                                                    .titleAtRow(0)
+                                                    .dataFromRow(1)
+                                                    .column("Name", "name")
+                                                    .column("Quantity", "quantity")
+                                                    .keepRawData(false)
+                                                    .streaming(streaming);
+            Result<Line> plain = config.readSheet(new ByteArrayInputStream(file));
+            Assert.assertNull(plain.get(1).getName());
+
+            Result<Line> lines = config.fillMergedCells(true).readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(Arrays.asList("Group A", "Group A", "Group A", "Group B", "Group B"),
+                                lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 4),
+                                lines.stream().map(Line::getQuantity).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void fillWideRegions() {
+        fillWideRegions(new XSSFWorkbook());
+        fillWideRegions(new HSSFWorkbook());
+    }
+
+    @SneakyThrows
+    private void fillWideRegions(Workbook book) {
+        byte[] file;
+        try (Workbook workbook = book;
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Lines");
+            Row title = sheet.createRow(0);
+            title.createCell(0).setCellValue("Name");
+            title.createCell(1).setCellValue("Category");
+            sheet.createRow(1).createCell(0).setCellValue("Pen");
+            for (int i = 2; i <= 6; i++) {
+                Row row = sheet.createRow(i);
+                if (i == 4) {
+                    row.createCell(0).setCellValue("Ink");
+                    row.createCell(1).setCellValue("Refill");
+                }
+                if (i == 6) {
+                    row.createCell(0).setCellValue("Book");
+                    row.createCell(1).setCellValue("Paper");
+                }
+            }
+            // the top row of a region is filled as well, and regions may end on missing rows
+            sheet.addMergedRegion(CellRangeAddress.valueOf("A2:B3"));
+            sheet.addMergedRegion(CellRangeAddress.valueOf("B7:B9"));
+            workbook.write(out);
+            file = out.toByteArray();
+        }
+
+        for (boolean streaming : new boolean[]{false, true}) {
+            Result<Line> lines = ReaderConfig.fromClass(Line.class)
+                                             .titleAtRow(0)
+                                             .dataFromRow(1)
+                                             .column("Name", "name")
+                                             .column("Category", "category")
+                                             .keepRawData(false)
+                                             .fillMergedCells(true)
+                                             .streaming(streaming)
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(Arrays.asList("Pen", "Pen", null, "Ink", null, "Book"),
+                                lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(Arrays.asList("Pen", "Pen", null, "Refill", null, "Paper"),
+                                lines.stream().map(Line::getCategory).collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package read;
+
+import io.github.nambach.excelutil.core.Result;
+import io.github.nambach.excelutil.core.RowError;
+import model.Book;
+import model.Constant;
+import model.Line;
+import org.junit.Assert;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static read.Lines.BOOK_TEMPLATE;
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+import static read.Lines.toBytes;
+import static read.Lines.writeLines;
+
+public class TestParallelRead {
+
+    @Test
+    public void readSheetsInParallel() {
+        byte[] file = createLines("Jan", "Feb", "Mar", "Apr");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (boolean streaming : new boolean[]{false, true}) {
+                Map<String, Result<Line>> sheets = lineConfig()
+                        .streaming(streaming)
+                        .readAllSheets(new ByteArrayInputStream(file), executor);
+                Assert.assertEquals(Arrays.asList("Jan", "Feb", "Mar", "Apr"), new ArrayList<>(sheets.keySet()));
+                sheets.values().forEach(lines -> {
+                    Assert.assertEquals(5, lines.size());
+                    Assert.assertEquals(1, lines.getErrors().size());
+                });
+
+                Map<String, Result<Line>> some = lineConfig()
+                        .streaming(streaming)
+                        .readSheets(new ByteArrayInputStream(file), executor, "Mar", "Jan");
+                Assert.assertEquals(Arrays.asList("Jan", "Mar"), new ArrayList<>(some.keySet()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void mapRowsInParallel() {
+        byte[] file = toBytes(BOOK_TEMPLATE.writeData(Constant.BOOKS));
+        Result<Book> expected = BOOK_TEMPLATE.getReaderConfig().readSheet(new ByteArrayInputStream(file));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Result<Book> books = BOOK_TEMPLATE.getReaderConfig()
+                                              .parallel(executor, 3)
+                                              .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(books));
+
+            List<RowError> reported = new ArrayList<>();
+            Result<Line> lines = lineConfig()
+                    .streaming(true)
+                    .parallel(executor, 2)
+                    .onRowError(reported::add)
+                    .beforeAddingItem((line, row) -> {
+                        if (line.getName().equals("Item 4")) {
+                            row.terminateNow();
+                        }
+                    })
+                    .readSheet(new ByteArrayInputStream(createLines()));
+            Assert.assertEquals(Arrays.asList("Item 1", "Item 2", "Item 3"),
+                                lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(1, lines.getErrors().size());
+            Assert.assertEquals(1, reported.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void evaluateFormulasBeforeHandingOff() throws IOException {
+        // formulas are saved without their results, so they must be evaluated
+        byte[] file;
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeLines(workbook.createSheet("Jan"));
+            writeLines(workbook.createSheet("Feb"));
+            workbook.write(out);
+            file = out.toByteArray();
+        }
+        List<Double> totals = Arrays.asList(0.0, 1.5, 3.0, 4.5, 6.0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Result<Line> lines = lineConfig().parallel(executor, 2).readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(totals, lines.stream().map(Line::getTotal).collect(Collectors.toList()));
+
+            Map<String, Result<Line>> sheets = lineConfig().readAllSheets(new ByteArrayInputStream(file), executor);
+            sheets.values().forEach(sheet -> Assert.assertEquals(
+                    totals, sheet.stream().map(Line::getTotal).collect(Collectors.toList())));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package read;
+
+import io.github.nambach.excelutil.core.Result;
+import lombok.SneakyThrows;
+import model.Line;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+import static read.Lines.writeLines;
+
+public class TestRowSelection {
+
+    @Test
+    public void readRange() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            Result<Line> lines = lineConfig().streaming(streaming).offset(1).limit(2)
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(Arrays.asList("Item 2", "Item 3"),
+                                lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertTrue(lines.noError());
+
+            lines = lineConfig().streaming(streaming).dataToRow(2).readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(2, lines.size());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void stopAtFirstBlankRow() {
+        byte[] file;
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Lines");
+            writeLines(sheet);
+            sheet.removeRow(sheet.getRow(4));
+            sheet.createRow(7).createCell(0).setCellValue("Footer");
+            workbook.write(out);
+            file = out.toByteArray();
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Result<Line> lines = lineConfig().stopAtFirstBlankRow().parallel(executor, 1)
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(3, lines.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void filterRowsBeforeMapping() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            // unmapped price column, and item 1 which would fail validation
+            Result<Line> lines = lineConfig().where(2, cell -> cell.readDouble() == 1.5)
+                                             .where("Paid", cell -> Boolean.TRUE.equals(cell.readBoolean()))
+                                             .keepRawData(false)
+                                             .streaming(streaming)
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(Arrays.asList("Item 2", "Item 4"),
+                                lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertTrue(lines.noError());
+        }
+    }
+
+    @Test
+    public void filterOnMissingCells() {
+        byte[] file = createLines();
+        for (boolean streaming : new boolean[]{false, true}) {
+            List<Integer> rowIndexes = new ArrayList<>();
+            Result<Line> lines = lineConfig().where(6, cell -> rowIndexes.add(cell.getRowIndex()) &&
+                                                                cell.getPoiCell().getCellType() == CellType.BLANK)
+                                             .streaming(streaming)
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(5, lines.size());
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), rowIndexes);
+
+            try {
+                lineConfig().where("Payd", cell -> true)
+                            .streaming(streaming)
+                            .readSheet(new ByteArrayInputStream(file));
+                Assert.fail("Unknown filter column must fail");
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("'Payd'"));
+            }
+        }
+    }
+}
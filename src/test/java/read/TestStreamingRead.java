@@ -0,0 +1,340 @@
+package read;
+
+import io.github.nambach.excelutil.core.Editor;
+import io.github.nambach.excelutil.core.ReaderCell;
+import io.github.nambach.excelutil.core.ReaderConfig;
+import io.github.nambach.excelutil.core.Result;
+import lombok.SneakyThrows;
+import model.Book;
+import model.Constant;
+import model.ImmutableLine;
+import model.Line;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static read.Lines.BOOK_TEMPLATE;
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+import static read.Lines.writeLines;
+import static read.Lines.toBytes;
+
+public class TestStreamingRead {
+
+    @Test
+    public void readByTitle() {
+        byte[] file = toBytes(BOOK_TEMPLATE.writeData(Constant.BOOKS));
+        Result<Book> expected = BOOK_TEMPLATE.getReaderConfig().readSheet(new ByteArrayInputStream(file));
+        Result<Book> books = BOOK_TEMPLATE.getReaderConfig().streaming(true).readSheet(new ByteArrayInputStream(file));
+
+        Assert.assertEquals(Constant.BOOKS.size(), books.size());
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(books));
+        Assert.assertEquals(expected.getRawData().get(0).getOtherData(), books.getRawData().get(0).getOtherData());
+    }
+
+    @Test
+    public void readByIndex() {
+        byte[] file = toBytes(BOOK_TEMPLATE.writeData(Constant.BOOKS));
+        Result<Book> expected = BOOK_TEMPLATE.getReaderConfigByColumnIndex().readSheet(new ByteArrayInputStream(file));
+        Result<Book> books = BOOK_TEMPLATE.getReaderConfigByColumnIndex().streaming(true).readSheet(new ByteArrayInputStream(file));
+
+        Assert.assertEquals(Constant.BOOKS.size(), books.size());
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(books));
+    }
+
+    @Test
+    public void readFormulaAndValidation() {
+        byte[] file = createLines();
+
+        Result<Line> expected = lineConfig().readSheet(new ByteArrayInputStream(file));
+        Result<Line> lines = lineConfig().streaming(true).readSheet(new ByteArrayInputStream(file), "Lines");
+
+        Assert.assertEquals(5, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Assert.assertEquals(expected.get(i).getName(), lines.get(i).getName());
+            Assert.assertEquals(expected.get(i).getQuantity(), lines.get(i).getQuantity());
+            Assert.assertEquals(expected.get(i).getTotal(), lines.get(i).getTotal(), 0);
+            Assert.assertEquals(expected.get(i).getPaid(), lines.get(i).getPaid());
+        }
+        Assert.assertEquals(6.0, lines.get(4).getTotal(), 0);
+        Assert.assertEquals(1, lines.getErrors().size());
+        Assert.assertEquals(expected.getErrors().get(0).toString(), lines.getErrors().get(0).toString());
+    }
+
+    @Test
+    public void readAllSheets() {
+        byte[] file = createLines();
+        Map<String, Result<Line>> sheets = lineConfig().streaming(true).readAllSheets(new ByteArrayInputStream(file));
+        Assert.assertEquals(1, sheets.size());
+        Assert.assertEquals(5, sheets.get("Lines").size());
+    }
+
+    @Test
+    public void readCachedFormulaValues() {
+        byte[] file = createLines();
+        Result<Line> lines = lineConfig().useCachedFormulaValues(true).readSheet(new ByteArrayInputStream(file));
+        Assert.assertEquals(Arrays.asList(0.0, 1.5, 3.0, 4.5, 6.0),
+                            lines.stream().map(Line::getTotal).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void readWithoutRawData() {
+        byte[] file = toBytes(BOOK_TEMPLATE.writeData(Constant.BOOKS));
+        Result<Book> expected = BOOK_TEMPLATE.getReaderConfig().readSheet(new ByteArrayInputStream(file));
+        Result<Book> books = BOOK_TEMPLATE.getReaderConfig().keepRawData(false).readSheet(new ByteArrayInputStream(file));
+
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(books));
+        Assert.assertTrue(books.getRawData().isEmpty());
+    }
+
+    @Test
+    @SneakyThrows
+    public void dedupStrings() {
+        byte[] file;
+        // inline strings, not shared by the file
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int i = 1; i <= 6; i++) {
+                sheet.createRow(i).createCell(0).setCellValue(i % 2 == 0 ? "Even" : "Odd");
+            }
+            workbook.write(out);
+            file = out.toByteArray();
+        }
+
+        for (boolean streaming : new boolean[]{false, true}) {
+            Result<Line> lines = ReaderConfig.fromClass(Line.class)
+                                             .titleAtRow(0)
+                                             .dataFromRow(1)
+                                             .column("Name", "name")
+                                             .streaming(streaming)
+                                             .dedupStrings(16)
+                                             .readSheet(new ByteArrayInputStream(file));
+            Assert.assertEquals(6, lines.size());
+            Assert.assertEquals("Odd", lines.get(0).getName());
+            Assert.assertSame(lines.get(1).getName(), lines.get(3).getName());
+        }
+    }
+
+    @Test
+    public void readMappedColumnsOnly() {
+        byte[] file = toBytes(BOOK_TEMPLATE.writeData(Constant.BOOKS));
+        Result<Book> expected = BOOK_TEMPLATE.getReaderConfig().readSheet(new ByteArrayInputStream(file));
+        Result<Book> books = BOOK_TEMPLATE.getReaderConfig()
+                                          .streaming(true)
+                                          .keepRawData(false)
+                                          .readSheet(new ByteArrayInputStream(file));
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(books));
+
+        ReaderConfig<Line> config = ReaderConfig.fromClass(Line.class)
+                                                .titleAtRow(0)
+                                                .dataFromRow(1)
+                                                .column("Name", "name")
+                                                .column("Paid", "paid")
+                                                .streaming(true);
+        try (Stream<Line> lines = config.stream(new ByteArrayInputStream(createLines()))) {
+            Assert.assertEquals(Arrays.asList(false, true, false, true, false),
+                                lines.map(Line::getPaid).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void skipUnmappedCells() {
+        // prices cannot be decoded, so reading only works if their cells are skipped unparsed
+        byte[] file = poisonPrices(createLines());
+        ReaderConfig<Line> config = ReaderConfig.fromClass(Line.class)
+                                                .titleAtRow(0)
+                                                .dataFromRow(1)
+                                                .column("Name", "name")
+                                                .column("Quantity", "quantity")
+                                                .streaming(true);
+        try {
+            config.readSheet(new ByteArrayInputStream(file));
+            Assert.fail("Raw data needs every cell, so prices must be decoded");
+        } catch (NumberFormatException e) {
+            Assert.assertTrue(e.getMessage().contains("poison"));
+        }
+
+        Result<Line> lines = config.keepRawData(false).readSheet(new ByteArrayInputStream(file));
+        Assert.assertFalse(lines.hasErrors());
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4),
+                            lines.stream().map(Line::getQuantity).collect(Collectors.toList()));
+    }
+
+    /**
+     * Replace the values of the Price column with text that is not a number.
+     */
+    @SneakyThrows
+    private static byte[] poisonPrices(byte[] file) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(file));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                byte[] content = toBytes(in);
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    String xml = new String(content, StandardCharsets.UTF_8);
+                    String poisoned = xml.replaceAll("(<c r=\"C[2-6]\"[^>]*><v>)[^<]*(</v>)", "$1poison$2");
+                    Assert.assertFalse(xml.equals(poisoned));
+                    content = poisoned.getBytes(StandardCharsets.UTF_8);
+                }
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                zip.write(content);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    @SneakyThrows
+    public void readXlsAsStream() {
+        byte[] file;
+        try (HSSFWorkbook workbook = new HSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeLines(workbook.createSheet("Lines"));
+            Sheet formulas = workbook.createSheet("Formulas");
+            writeLines(formulas);
+            for (int i = 1; i <= 5; i++) {
+                Row row = formulas.getRow(i);
+                row.getCell(0).setCellFormula("\"Line \"&B" + (i + 1));
+                row.getCell(4).setCellFormula("B" + (i + 1) + ">1");
+            }
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(out);
+            file = out.toByteArray();
+        }
+
+        Map<String, Result<Line>> expected = lineConfig().readAllSheets(new ByteArrayInputStream(file));
+        Map<String, Result<Line>> actual = lineConfig().streaming(true).readAllSheets(new ByteArrayInputStream(file));
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        for (String sheetName : expected.keySet()) {
+            Result<Line> lines = actual.get(sheetName);
+            Assert.assertEquals(5, lines.size());
+            Assert.assertEquals(expected.get(sheetName).getErrors().size(), lines.getErrors().size());
+            for (int i = 0; i < lines.size(); i++) {
+                Line line = expected.get(sheetName).get(i);
+                Assert.assertEquals(line.getName(), lines.get(i).getName());
+                Assert.assertEquals(line.getQuantity(), lines.get(i).getQuantity());
+                Assert.assertEquals(line.getTotal(), lines.get(i).getTotal(), 0);
+                Assert.assertEquals(line.getPaid(), lines.get(i).getPaid());
+            }
+        }
+        Assert.assertEquals("Line 4", actual.get("Formulas").get(4).getName());
+        Assert.assertEquals(true, actual.get("Formulas").get(4).getPaid());
+
+        try (Stream<Line> lines = lineConfig().streaming(true).stream(new ByteArrayInputStream(file), 1)) {
+            Assert.assertEquals(5, lines.count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void spoolStreamToTemporaryFile() {
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        try (Stream<Path> before = Files.list(tempDir)) {
+            List<Path> existing = before.collect(Collectors.toList());
+            Result<Line> lines = lineConfig().streaming(true).readSheet(new ByteArrayInputStream(createLines()));
+            Assert.assertEquals(5, lines.size());
+            try (Stream<Path> after = Files.list(tempDir)) {
+                Assert.assertEquals(Collections.emptyList(),
+                                    after.filter(path -> path.getFileName().toString().startsWith("excel-util"))
+                                         .filter(path -> !existing.contains(path))
+                                         .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void readFromFile() {
+        byte[] file = createLines();
+        Path path = Files.createTempFile("lines", ".xlsx");
+        try {
+            Files.write(path, file);
+            Result<Line> expected = lineConfig().readSheet(new ByteArrayInputStream(file));
+            Result<Line> lines = lineConfig().readSheet(path);
+            Result<Line> streamed = lineConfig().streaming(true).readSheet(path.toFile(), "Lines");
+
+            List<String> names = expected.stream().map(Line::getName).collect(Collectors.toList());
+            Assert.assertEquals(names, lines.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(names, streamed.stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(expected.getErrors().size(), streamed.getErrors().size());
+
+            // edits are exported but never written back to the file
+            try (Editor editor = new Editor(path)) {
+                editor.goToSheet(0).goToCell("A2").writeCell(c -> c.text("Edited"));
+                Result<Line> edited = lineConfig().readSheet(editor.exportToFile());
+                Assert.assertEquals("Edited", edited.get(0).getName());
+            }
+            Assert.assertArrayEquals(file, Files.readAllBytes(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void reuseReaderCells() {
+        List<ReaderCell> cells = new ArrayList<>();
+        List<ReaderCell> snapshots = new ArrayList<>();
+        ReaderConfig<Line> config = lineConfig().handler(h -> h.atColumn(0).handle((line, cell) -> {
+            cells.add(cell);
+            snapshots.add(cell.snapshot());
+        }));
+        Result<Line> lines = config.readSheet(new ByteArrayInputStream(createLines()));
+
+        Assert.assertEquals(5, lines.size());
+        Assert.assertTrue(cells.stream().allMatch(cell -> cell == cells.get(0)));
+        Assert.assertEquals(Arrays.asList("Item 1", "Item 2", "Item 3", "Item 4", "Item 5"),
+                            snapshots.stream().map(ReaderCell::readString).collect(Collectors.toList()));
+        Assert.assertEquals(1, snapshots.get(0).getRowIndex());
+    }
+
+    @Test
+    public void readIntoConstructor() {
+        byte[] file = createLines();
+        Result<ImmutableLine> lines = ReaderConfig
+                .fromClass(ImmutableLine.class)
+                .constructorArgs("name", "quantity", "total", "paid")
+                .titleAtRow(0)
+                .dataFromRow(1)
+                .column("Name", "name")
+                .column("Quantity", "quantity")
+                .column("Total", "total")
+                .column("Paid", "paid")
+                .streaming(true)
+                .readSheet(new ByteArrayInputStream(file));
+
+        Assert.assertEquals(5, lines.size());
+        Assert.assertEquals(new ImmutableLine("Item 5", 4, 6.0, false), lines.get(4));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectConstructorArgsAfterMapping() {
+        ReaderConfig.fromClass(ImmutableLine.class)
+                    .titleAtRow(0)
+                    .column("Name", "name")
+                    .constructorArgs("name", "quantity", "total", "paid");
+    }
+}
@@ -0,0 +1,40 @@
+package read;
+
+import io.github.nambach.excelutil.core.ReaderConfig;
+import io.github.nambach.excelutil.core.WorkbookReader;
+import model.Line;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static read.Lines.lineConfig;
+import static read.Lines.createLines;
+
+public class TestWorkbookReader {
+
+    @Test
+    public void readSectionsInOnePass() {
+        byte[] file = createLines("Lines", "Others");
+        for (boolean streaming : new boolean[]{false, true}) {
+            WorkbookReader reader = new WorkbookReader().streaming(streaming);
+            WorkbookReader.Section<Line> head = reader.section(0, lineConfig().dataToRow(2));
+            WorkbookReader.Section<Line> tail = reader.section(0, "A4", ReaderConfig.fromClass(Line.class)
+                                                                                     .titleAtRow(-1)
+                                                                                     .dataFromRow(0)
+                                                                                     .column(0, "name")
+                                                                                     .keepRawData(false));
+            WorkbookReader.Section<Line> others = reader.section("Others", "A1", lineConfig());
+            reader.read(new ByteArrayInputStream(file));
+
+            Assert.assertEquals(Arrays.asList("Item 1", "Item 2"),
+                                head.getResult().stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(1, head.getResult().getErrors().size());
+            Assert.assertEquals(Arrays.asList("Item 3", "Item 4", "Item 5"),
+                                tail.getResult().stream().map(Line::getName).collect(Collectors.toList()));
+            Assert.assertEquals(5, others.getResult().size());
+        }
+    }
+}